@@ -0,0 +1,53 @@
+import java.awt.geom.Point2D;
+
+import java.util.ArrayList;
+
+public class BaselinePlanner {
+
+    private final ArrayList<Point2D> route = new ArrayList<Point2D>();  // Interior waypoints of the shortest route
+    private final double length;            // Shortest feasible route from start to goal; Infinity if there is none
+    private final double solveTime;         // Seconds spent building the graph and searching it
+
+    // BaselinePlanner Constructor; Solves environment once with a visibility graph and A*
+    BaselinePlanner(Obstacle[] obstacles, EdgeIndex index) {
+        double start = System.nanoTime();
+        VisibilityGraph graph = new VisibilityGraph(obstacles, index, Constants.VISIBILITY_CLEARANCE);
+        length = graph.shortestPath(VisibilityGraph.START, VisibilityGraph.GOAL, route);
+        solveTime = (System.nanoTime() - start) * Math.pow(10, -9);
+    }
+
+    /* Important Functions */
+
+    // Relative excess of cost over the shortest route; Routes may hug vertices closer than the graph's clearance,
+    // so a gap can be slightly negative. NaN if there is no shortest route to compare with
+    public double gap(double cost) {
+        if (!hasRoute())
+            return Double.NaN;
+
+        return (cost - length) / length;
+    }
+
+    // Determines whether cost is within specified fraction of the shortest route; Never true without a route
+    public boolean isWithin(double cost, double tolerance) {
+        return hasRoute() && cost <= length * (1 + tolerance);
+    }
+
+    // Determines whether the graph connects start and goal
+    public boolean hasRoute() {
+        return !Double.isInfinite(length);
+    }
+
+    /* Getters */
+
+    public ArrayList<Point2D> getRoute() {
+        return route;
+    }
+
+    public double getLength() {
+        return length;
+    }
+
+    public double getSolveTime() {
+        return solveTime;
+    }
+}
@@ -0,0 +1,228 @@
+public class ChromosomeStore {
+
+    private double[] x;         // x-coordinates; Nodes of slot s start at s * stride
+    private double[] y;         // y-coordinates; Same layout as x
+    private int[] lengths;      // Number of nodes in each slot
+    private double[] costs;     // Last evaluated cost of each slot
+    private int stride;         // Maximum nodes per slot
+
+    // Cached evaluation of each path (node i to node i + 1); Path i of slot s is at s * stride + i
+    private double[] pathLengths;
+    private boolean[] pathHits;
+    private boolean[] pathValid;
+    private int[] collisionCounts;      // Unique collision points of each path, cached or not
+    private double[] collisionX;        // Collision points of path p start at p * CACHED_COLLISIONS
+    private double[] collisionY;
+
+    // ChromosomeStore Constructor
+    ChromosomeStore(int capacity, int stride) {
+        this.stride = stride;
+        x = new double[capacity * stride];
+        y = new double[capacity * stride];
+        lengths = new int[capacity];
+        costs = new double[capacity];
+        pathLengths = new double[capacity * stride];
+        pathHits = new boolean[capacity * stride];
+        pathValid = new boolean[capacity * stride];
+        collisionCounts = new int[capacity * stride];
+        collisionX = new double[capacity * stride * Constants.CACHED_COLLISIONS];
+        collisionY = new double[capacity * stride * Constants.CACHED_COLLISIONS];
+    }
+
+    /* Important Functions */
+
+    // Inserts node into chromosome of slot, shifting later nodes; Cached paths after the node move with them, the
+    // paths on either side of it are left for the caller to invalidate
+    public void insertNode(int slot, int index, double nodeX, double nodeY) {
+        ensureStride(lengths[slot] + 1);
+
+        int base = slot * stride;
+        System.arraycopy(x, base + index, x, base + index + 1, lengths[slot] - index);
+        System.arraycopy(y, base + index, y, base + index + 1, lengths[slot] - index);
+        x[base + index] = nodeX;
+        y[base + index] = nodeY;
+
+        if (index < lengths[slot])
+            shiftPaths(slot, index, lengths[slot] - 1, 1);
+
+        lengths[slot]++;
+    }
+
+    // Removes node from chromosome of slot, shifting later nodes; Cached paths after the node move with them, the
+    // merged path is left for the caller to invalidate
+    public void removeNode(int slot, int index) {
+        int base = slot * stride;
+        System.arraycopy(x, base + index + 1, x, base + index, lengths[slot] - index - 1);
+        System.arraycopy(y, base + index + 1, y, base + index, lengths[slot] - index - 1);
+
+        if (index < lengths[slot] - 1)
+            shiftPaths(slot, index + 1, lengths[slot] - 1, -1);
+
+        lengths[slot]--;
+    }
+
+    public void setNode(int slot, int index, double nodeX, double nodeY) {
+        x[slot * stride + index] = nodeX;
+        y[slot * stride + index] = nodeY;
+    }
+
+    // Copies chromosome, cost and cached paths of a slot in another store
+    public void copySlot(ChromosomeStore source, int sourceSlot, int slot) {
+        int paths = Math.max(0, source.lengths[sourceSlot] - 1);
+        int from = sourceSlot * source.stride;
+
+        ensureStride(source.lengths[sourceSlot]);
+        System.arraycopy(source.x, from, x, slot * stride, source.lengths[sourceSlot]);
+        System.arraycopy(source.y, from, y, slot * stride, source.lengths[sourceSlot]);
+        System.arraycopy(source.pathLengths, from, pathLengths, slot * stride, paths);
+        System.arraycopy(source.pathHits, from, pathHits, slot * stride, paths);
+        System.arraycopy(source.pathValid, from, pathValid, slot * stride, paths);
+        System.arraycopy(source.collisionCounts, from, collisionCounts, slot * stride, paths);
+        System.arraycopy(source.collisionX, from * Constants.CACHED_COLLISIONS, collisionX, slot * stride * Constants.CACHED_COLLISIONS,
+                paths * Constants.CACHED_COLLISIONS);
+        System.arraycopy(source.collisionY, from * Constants.CACHED_COLLISIONS, collisionY, slot * stride * Constants.CACHED_COLLISIONS,
+                paths * Constants.CACHED_COLLISIONS);
+        lengths[slot] = source.lengths[sourceSlot];
+        costs[slot] = source.costs[sourceSlot];
+    }
+
+    // Caches evaluation of a path; Only the first CACHED_COLLISIONS collision points are kept
+    public void setPath(int slot, int path, double length, boolean hit, int count, double[] pointsX, double[] pointsY) {
+        int p = slot * stride + path;
+
+        pathLengths[p] = length;
+        pathHits[p] = hit;
+        collisionCounts[p] = count;
+        System.arraycopy(pointsX, 0, collisionX, p * Constants.CACHED_COLLISIONS, Math.min(count, Constants.CACHED_COLLISIONS));
+        System.arraycopy(pointsY, 0, collisionY, p * Constants.CACHED_COLLISIONS, Math.min(count, Constants.CACHED_COLLISIONS));
+        pathValid[p] = true;
+    }
+
+    // Marks cached path as outdated
+    public void invalidatePath(int slot, int path) {
+        if (path >= 0 && path < stride)
+            pathValid[slot * stride + path] = false;
+    }
+
+    // Copies collision points of a cached path into x and y from offset; Returns false if the path has more points
+    // than are cached
+    public boolean copyCollisions(int slot, int path, double[] x, double[] y, int offset) {
+        int p = slot * stride + path;
+
+        if (collisionCounts[p] > Constants.CACHED_COLLISIONS)
+            return false;
+
+        System.arraycopy(collisionX, p * Constants.CACHED_COLLISIONS, x, offset, collisionCounts[p]);
+        System.arraycopy(collisionY, p * Constants.CACHED_COLLISIONS, y, offset, collisionCounts[p]);
+        return true;
+    }
+
+    // Moves cached paths [from, to) of slot by shift positions
+    private void shiftPaths(int slot, int from, int to, int shift) {
+        int p = slot * stride + from;
+
+        System.arraycopy(pathLengths, p, pathLengths, p + shift, to - from);
+        System.arraycopy(pathHits, p, pathHits, p + shift, to - from);
+        System.arraycopy(pathValid, p, pathValid, p + shift, to - from);
+        System.arraycopy(collisionCounts, p, collisionCounts, p + shift, to - from);
+        System.arraycopy(collisionX, p * Constants.CACHED_COLLISIONS, collisionX, (p + shift) * Constants.CACHED_COLLISIONS,
+                (to - from) * Constants.CACHED_COLLISIONS);
+        System.arraycopy(collisionY, p * Constants.CACHED_COLLISIONS, collisionY, (p + shift) * Constants.CACHED_COLLISIONS,
+                (to - from) * Constants.CACHED_COLLISIONS);
+    }
+
+    // Widens every slot when a chromosome outgrows the current stride
+    private void ensureStride(int nodes) {
+        if (nodes <= stride)
+            return;
+
+        int newStride = Math.max(nodes, 2 * stride);
+        double[] newX = new double[lengths.length * newStride];
+        double[] newY = new double[lengths.length * newStride];
+        double[] newPathLengths = new double[lengths.length * newStride];
+        boolean[] newPathHits = new boolean[lengths.length * newStride];
+        boolean[] newPathValid = new boolean[lengths.length * newStride];
+        int[] newCollisionCounts = new int[lengths.length * newStride];
+        double[] newCollisionX = new double[lengths.length * newStride * Constants.CACHED_COLLISIONS];
+        double[] newCollisionY = new double[lengths.length * newStride * Constants.CACHED_COLLISIONS];
+
+        for (int slot = 0; slot < lengths.length; slot++) {
+            int paths = Math.max(0, lengths[slot] - 1);
+
+            System.arraycopy(x, slot * stride, newX, slot * newStride, lengths[slot]);
+            System.arraycopy(y, slot * stride, newY, slot * newStride, lengths[slot]);
+            System.arraycopy(pathLengths, slot * stride, newPathLengths, slot * newStride, paths);
+            System.arraycopy(pathHits, slot * stride, newPathHits, slot * newStride, paths);
+            System.arraycopy(pathValid, slot * stride, newPathValid, slot * newStride, paths);
+            System.arraycopy(collisionCounts, slot * stride, newCollisionCounts, slot * newStride, paths);
+            System.arraycopy(collisionX, slot * stride * Constants.CACHED_COLLISIONS, newCollisionX,
+                    slot * newStride * Constants.CACHED_COLLISIONS, paths * Constants.CACHED_COLLISIONS);
+            System.arraycopy(collisionY, slot * stride * Constants.CACHED_COLLISIONS, newCollisionY,
+                    slot * newStride * Constants.CACHED_COLLISIONS, paths * Constants.CACHED_COLLISIONS);
+        }
+
+        x = newX;
+        y = newY;
+        pathLengths = newPathLengths;
+        pathHits = newPathHits;
+        pathValid = newPathValid;
+        collisionCounts = newCollisionCounts;
+        collisionX = newCollisionX;
+        collisionY = newCollisionY;
+        stride = newStride;
+    }
+
+    /* Setters */
+
+    public void setLength(int slot, int length) {
+        ensureStride(length);
+        lengths[slot] = length;
+    }
+
+    public void setCost(int slot, double cost) {
+        costs[slot] = cost;
+    }
+
+    /* Getters */
+
+    public double getX(int slot, int index) {
+        return x[slot * stride + index];
+    }
+
+    public double getY(int slot, int index) {
+        return y[slot * stride + index];
+    }
+
+    public int getLength(int slot) {
+        return lengths[slot];
+    }
+
+    public double getCost(int slot) {
+        return costs[slot];
+    }
+
+    // Cost of every slot as of its last evaluation; Read-only view for hot loops
+    public double[] getCosts() {
+        return costs;
+    }
+
+    public int getCapacity() {
+        return lengths.length;
+    }
+
+    public boolean isPathValid(int slot, int path) {
+        return pathValid[slot * stride + path];
+    }
+
+    public double getPathLength(int slot, int path) {
+        return pathLengths[slot * stride + path];
+    }
+
+    public boolean isPathHit(int slot, int path) {
+        return pathHits[slot * stride + path];
+    }
+
+    public int getCollisionCount(int slot, int path) {
+        return collisionCounts[slot * stride + path];
+    }
+}
@@ -1,47 +1,109 @@
-import java.awt.geom.Point2D;
-
-public class Constants {
-    // Experiment Settings
-    public static final int TRIAL_RUNS = 4;
-    public static final boolean PERFORM_LAB = false;
-    public static final boolean COLLECT_TRIAL_DATA = false;
-    public static final boolean COLLECT_GENERATION_DATA = false;
-
-    // Initial Parameters for Population
-    public static final int POPULATION_SIZE = 100;
-    public static final int MAX_CHROMOSOME_LENGTH = 10;
-    public static final int MIN_CHROMOSOME_LENGTH = 5;
-    public static final int MAX_X_VALUE = 120;
-    public static final int MAX_Y_VALUE = 80;
-    public static final Point2D GOAL_NODE = new Point2D.Double(120, 80);
-
-    // Initial Parameters for Algorithm
-    public static final int INITIAL_POPULATIONS = 5;            // # of candidate initial populations
-    public static final int ELITE_SURVIVORS = 5;                // # of fittest individuals selected per generation
-    public static final int TOURNAMENT_SIZE = 5;                // Size of group for tournament selection
-    public static final int COMBINED_SELECTION_RUNS = 5;        // Runs carried out for each selection method in Combined Selection
-    public static final double CROSSOVER_PROBABILITY = 0.90;    // Probability of crossover between two parents
-    public static final double MUTATION_PROBABILITY = 0.25;     // Probability of mutation per individual
-    public static final double PENALTY_FACTOR = 20;             // Multiplied with each individual's collision distance to be added to fitness
-
-    // Termination Conditions
-    public static final int GENERATION_LIMIT = 1000;
-    public static final double FITNESS_LIMIT = 155;
-
-    // Environment Setup
-    private static FileManager fm = new FileManager("C:\\Users\\chris\\IdeaProjects\\"
-            + "RobotNavigationGA\\Environment 1.txt");
-    public static final Obstacle[] OBSTACLES = fm.getObstacles();
-
-    // Graphics Constants
-    public static final boolean DRAW_FITTEST = true;
-    public static final int PANEL_LENGTH = 600;
-    public static final int PANEL_HEIGHT = 400;
-    public static final int MARGIN_THICKNESS = 75;
-    public static final int POINT_RADIUS = 5;
-    public static final double X_SCALE = (double) PANEL_LENGTH / MAX_X_VALUE;
-    public static final double Y_SCALE = (double) PANEL_HEIGHT / MAX_Y_VALUE;
-
-    // Miscellaneous Constants
-    public static final double FLOAT_THRESHOLD = 0.00000001;    // Used for determining the equality of two floats
-}
+import java.awt.geom.Point2D;
+import java.util.concurrent.ForkJoinPool;
+
+public class Constants {
+    // Experiment Settings
+    public static final int TRIAL_RUNS = 4;
+    public static final boolean PERFORM_LAB = false;
+    public static final boolean COLLECT_TRIAL_DATA = false;
+    public static final boolean COLLECT_GENERATION_DATA = false;
+    public static final double OPTIMALITY_TOLERANCE = 0.05;     // Lab trials report time until the fittest feasible path is within this fraction of the shortest route
+
+    // Initial Parameters for Population
+    public static final int POPULATION_SIZE = 100;
+    public static final int MAX_CHROMOSOME_LENGTH = 10;
+    public static final int MIN_CHROMOSOME_LENGTH = 5;
+    public static final SeedingMode SEEDING_MODE = SeedingMode.RANDOM;     // VISIBILITY and GRID_ASTAR also build individuals from obstacle-free routes
+    public static final double SEED_FRACTION = 0.5;             // Portion of the initial population built by the seeding mode
+    public static final double SEED_GRID_CELL_SIZE = 4;         // Side length of each cell of the coarse grid searched by GRID_ASTAR seeding
+    public static final double SEED_GRID_JITTER = 0.8;          // Fraction of a cell each grid waypoint may move away from the cell centre
+    public static final int MAX_X_VALUE = 120;
+    public static final int MAX_Y_VALUE = 80;
+    public static final Point2D GOAL_NODE = new Point2D.Double(120, 80);
+
+    // Initial Parameters for Algorithm
+    public static final EngineMode ENGINE_MODE = EngineMode.GENERATIONAL;  // STEADY_STATE breeds one pair at a time and replaces the least fit in place
+    public static final int INITIAL_POPULATIONS = 5;            // # of candidate initial populations
+    public static final int ELITE_SURVIVORS = 5;                // # of fittest individuals selected per generation
+    public static final int TOURNAMENT_SIZE = 5;                // Size of group for tournament selection
+    public static final int COMBINED_SELECTION_RUNS = 5;        // Runs carried out for each selection method in Combined Selection
+    public static final int COMBINED_SELECTION_REFRESH = 1;     // Generations a Combined Selection recommendation is reused before reliability is estimated again
+    public static final double CROSSOVER_PROBABILITY = 0.90;    // Probability of crossover between two parents
+    public static final double MUTATION_PROBABILITY = 0.25;     // Probability of mutation per individual
+    public static final boolean REPAIR_MUTATION = false;        // Adds mutation that reroutes a colliding path through the visibility graph
+    public static final double PENALTY_FACTOR = 20;             // Multiplied with each individual's collision distance to be added to fitness
+
+    // Island Model Parameters
+    public static final int ISLAND_COUNT = 1;                   // # of sub-populations evolved on their own threads; 1 disables the island model
+    public static final int MIGRATION_INTERVAL = 10;            // Generations between migrations
+    public static final int MIGRANT_COUNT = 2;                  // # of fittest individuals sent to each neighbouring island
+    public static final MigrationTopology MIGRATION_TOPOLOGY = MigrationTopology.RING;
+    public static final int WORKER_COUNT = 4;                   // # of worker processes a coordinator waits for before starting
+    public static final String COORDINATOR_HOST = "localhost";
+    public static final int COORDINATOR_PORT = 5150;
+
+    // Termination Conditions
+    public static final int GENERATION_LIMIT = 1000;
+    public static final double FITNESS_LIMIT = 155;
+
+    // Reproducibility Settings
+    public static final long RANDOM_SEED = System.nanoTime();   // Root seed of every random stream; Fix to reproduce a run
+    public static final RunMode RUN_MODE = RunMode.NORMAL;      // RECORD saves generation fingerprints; REPLAY checks a run against them
+    public static final String RUN_LOG_FILE = "C:\\Users\\chris\\IdeaProjects\\RobotNavigationGA\\Run Log.txt";
+
+    // Environment Setup
+    private static FileManager fm = new FileManager("C:\\Users\\chris\\IdeaProjects\\"
+            + "RobotNavigationGA\\Environment 1.txt");
+    public static final Obstacle[] OBSTACLES = fm.getObstacles();
+    public static final EdgeBuffer EDGES = new EdgeBuffer(OBSTACLES);
+
+    // Spatial Index Setup
+    public static final SpatialIndex SPATIAL_INDEX = SpatialIndex.GRID;
+    public static final double GRID_CELL_SIZE = 10;             // Side length of each cell in the uniform edge grid
+    public static final boolean OCCUPANCY_FILTER = false;       // Skips exact tests of segments whose cells hold no obstacle boundary
+    public static final double OCCUPANCY_CELL_SIZE = 1;         // Side length of each cell in the occupancy bitmap
+    public static final ObstacleBVH OBSTACLE_BVH = new ObstacleBVH(OBSTACLES, EDGES);
+    public static final EdgeIndex EDGE_INDEX = buildEdgeIndex();
+
+    // Visibility Graph Setup; Only built when seeding or mutation uses it
+    public static final double VISIBILITY_CLEARANCE = 0.01;    // Distance graph nodes keep from the obstacle vertex they round
+    public static final VisibilityGraph VISIBILITY_GRAPH = (SEEDING_MODE == SeedingMode.VISIBILITY || REPAIR_MUTATION)
+            ? new VisibilityGraph(OBSTACLES, EDGE_INDEX, VISIBILITY_CLEARANCE) : null;
+
+    // Parallel Evaluation Setup
+    public static final int EVALUATION_THREADS = Runtime.getRuntime().availableProcessors();   // 1 evaluates on the calling thread
+    public static final int EVALUATION_GRAIN = 8;               // Individuals evaluated by one task before it stops splitting
+    public static final ForkJoinPool EVALUATION_POOL = EVALUATION_THREADS > 1 ? new ForkJoinPool(EVALUATION_THREADS) : null;
+
+    // Graphics Constants
+    public static final boolean DRAW_FITTEST = true;
+    public static final int PANEL_LENGTH = 600;
+    public static final int PANEL_HEIGHT = 400;
+    public static final int MARGIN_THICKNESS = 75;
+    public static final int POINT_RADIUS = 5;
+    public static final double X_SCALE = (double) PANEL_LENGTH / MAX_X_VALUE;
+    public static final double Y_SCALE = (double) PANEL_HEIGHT / MAX_Y_VALUE;
+
+    // Miscellaneous Constants
+    public static final double FLOAT_THRESHOLD = 0.00000001;    // Used for determining the equality of two floats
+    public static final boolean VERIFY_INCREMENTAL_COST = false; // Checks every cached cost against a full recomputation
+    public static final int CACHED_COLLISIONS = 4;              // Collision points cached per path; Paths with more are intersected again when folded
+
+    // Builds spatial index used for intersection tests; Optionally fronted by the occupancy bitmap
+    private static EdgeIndex buildEdgeIndex() {
+        EdgeIndex index;
+
+        switch (SPATIAL_INDEX) {
+            case GRID:
+                index = new EdgeGrid(EDGES, GRID_CELL_SIZE);
+                break;
+            case BVH:
+                index = OBSTACLE_BVH;
+                break;
+            default:
+                index = EDGES;
+        }
+
+        return OCCUPANCY_FILTER ? new OccupancyBitmap(EDGES, index, OCCUPANCY_CELL_SIZE) : index;
+    }
+}
@@ -0,0 +1,70 @@
+public class CostHeap {
+
+    private final Population population;
+    private final int[] heap;       // Positions in population; Every position costs at least as much as its children
+    private final int[] index;      // Heap index of each position
+
+    // CostHeap Constructor; Heapifies every position of population in O(n)
+    CostHeap(Population population) {
+        this.population = population;
+        heap = new int[population.getSize()];
+        index = new int[population.getSize()];
+
+        for (int i = 0; i < heap.length; i++) {
+            heap[i] = i;
+            index[i] = i;
+        }
+
+        for (int i = heap.length / 2 - 1; i >= 0; i--)
+            siftDown(i);
+    }
+
+    /* Important Functions */
+
+    // Restores heap order after the cost of a position changed
+    public void update(int position) {
+        siftUp(index[position]);
+        siftDown(index[position]);
+    }
+
+    private void siftUp(int i) {
+        while (i > 0 && cost(i) > cost((i - 1) / 2)) {
+            swap(i, (i - 1) / 2);
+            i = (i - 1) / 2;
+        }
+    }
+
+    private void siftDown(int i) {
+        while (2 * i + 1 < heap.length) {
+            int child = 2 * i + 1;
+
+            if (child + 1 < heap.length && cost(child + 1) > cost(child))
+                child++;
+
+            if (cost(i) >= cost(child))
+                return;
+
+            swap(i, child);
+            i = child;
+        }
+    }
+
+    private void swap(int i, int j) {
+        int temp = heap[i];
+        heap[i] = heap[j];
+        heap[j] = temp;
+        index[heap[i]] = i;
+        index[heap[j]] = j;
+    }
+
+    private double cost(int i) {
+        return population.getCost(heap[i]);
+    }
+
+    /* Getters */
+
+    // Position of the least fit individual
+    public int getWorst() {
+        return heap[0];
+    }
+}
@@ -0,0 +1,153 @@
+public class CostSort {
+
+    private static final int INSERTION_THRESHOLD = 16;     // Ranges this small are finished with insertion sort
+
+    /* Important Functions */
+
+    // Sorts first n keys ascending and moves values along with them; Introsort, so O(n log n) in the worst case
+    public static void sort(double[] keys, int[] values, int n) {
+        if (isSorted(keys, n))
+            return;
+
+        introsort(keys, values, 0, n - 1, 2 * (32 - Integer.numberOfLeadingZeros(n)));
+    }
+
+    // Rearranges keys[low..high] so keys[k] is the one that would be there if sorted, with no larger key before it
+    // and no smaller key after it; O(n) on average
+    public static void select(double[] keys, int[] values, int low, int high, int k) {
+        while (high - low > INSERTION_THRESHOLD) {
+            double pivot = medianOfThree(keys, low, (low + high) >>> 1, high);
+            int lt = low;
+            int gt = high;
+            int i = low;
+
+            // Three-way partition: [low, lt) < pivot, [lt, gt] == pivot, (gt, high] > pivot
+            while (i <= gt) {
+                if (keys[i] < pivot)
+                    swap(keys, values, lt++, i++);
+                else if (keys[i] > pivot)
+                    swap(keys, values, i, gt--);
+                else
+                    i++;
+            }
+
+            if (k < lt)
+                high = lt - 1;
+            else if (k > gt)
+                low = gt + 1;
+            else
+                return;
+        }
+
+        insertionSort(keys, values, low, high);
+    }
+
+    private static void introsort(double[] keys, int[] values, int low, int high, int depth) {
+        while (high - low > INSERTION_THRESHOLD) {
+            // Falls back to heap sort once partitioning keeps going badly
+            if (depth-- == 0) {
+                heapSort(keys, values, low, high);
+                return;
+            }
+
+            double pivot = medianOfThree(keys, low, (low + high) >>> 1, high);
+            int lt = low;
+            int gt = high;
+            int i = low;
+
+            // Three-way partition keeps runs of equal costs from degrading the sort
+            while (i <= gt) {
+                if (keys[i] < pivot)
+                    swap(keys, values, lt++, i++);
+                else if (keys[i] > pivot)
+                    swap(keys, values, i, gt--);
+                else
+                    i++;
+            }
+
+            // Recurses into the smaller side so the stack stays O(log n)
+            if (lt - low < high - gt) {
+                introsort(keys, values, low, lt - 1, depth);
+                low = gt + 1;
+            } else {
+                introsort(keys, values, gt + 1, high, depth);
+                high = lt - 1;
+            }
+        }
+
+        insertionSort(keys, values, low, high);
+    }
+
+    private static void insertionSort(double[] keys, int[] values, int low, int high) {
+        for (int i = low + 1; i <= high; i++) {
+            double key = keys[i];
+            int value = values[i];
+            int j = i - 1;
+
+            while (j >= low && keys[j] > key) {
+                keys[j + 1] = keys[j];
+                values[j + 1] = values[j];
+                j--;
+            }
+
+            keys[j + 1] = key;
+            values[j + 1] = value;
+        }
+    }
+
+    private static void heapSort(double[] keys, int[] values, int low, int high) {
+        int n = high - low + 1;
+
+        for (int i = n / 2 - 1; i >= 0; i--)
+            siftDown(keys, values, low, i, n);
+
+        for (int end = n - 1; end > 0; end--) {
+            swap(keys, values, low, low + end);
+            siftDown(keys, values, low, 0, end);
+        }
+    }
+
+    private static void siftDown(double[] keys, int[] values, int low, int i, int n) {
+        while (2 * i + 1 < n) {
+            int child = 2 * i + 1;
+
+            if (child + 1 < n && keys[low + child + 1] > keys[low + child])
+                child++;
+
+            if (keys[low + i] >= keys[low + child])
+                return;
+
+            swap(keys, values, low + i, low + child);
+            i = child;
+        }
+    }
+
+    private static double medianOfThree(double[] keys, int a, int b, int c) {
+        double x = keys[a];
+        double y = keys[b];
+        double z = keys[c];
+
+        if (x < y)
+            return y < z ? y : Math.max(x, z);
+        return x < z ? x : Math.max(y, z);
+    }
+
+    private static boolean isSorted(double[] keys, int n) {
+        for (int i = 1; i < n; i++) {
+            if (keys[i - 1] > keys[i])
+                return false;
+        }
+
+        return true;
+    }
+
+    private static void swap(double[] keys, int[] values, int i, int j) {
+        double key = keys[i];
+        keys[i] = keys[j];
+        keys[j] = key;
+
+        int value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+    }
+}
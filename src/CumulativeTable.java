@@ -0,0 +1,70 @@
+public class CumulativeTable {
+
+    private final double[] prefix;      // prefix[i] is the sum of the first i + 1 weights
+    private int size;
+
+    // CumulativeTable Constructor
+    CumulativeTable(int capacity) {
+        prefix = new double[capacity];
+    }
+
+    /* Important Functions */
+
+    public void clear() {
+        size = 0;
+    }
+
+    // Appends weight of the next index
+    public void add(double weight) {
+        prefix[size] = size == 0 ? weight : prefix[size - 1] + weight;
+        size++;
+    }
+
+    // First index whose prefix sum reaches value; Last index if none does; O(log n)
+    public int search(double value) {
+        int low = 0;
+        int high = size - 1;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+
+            if (prefix[mid] >= value)
+                high = mid;
+            else
+                low = mid + 1;
+        }
+
+        return low;
+    }
+
+    // First index from specified index on whose prefix sum exceeds value; Size if none does; O(log n)
+    public int searchAbove(double value, int from) {
+        int low = from;
+        int high = size;
+
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+
+            if (prefix[mid] > value)
+                high = mid;
+            else
+                low = mid + 1;
+        }
+
+        return low;
+    }
+
+    /* Getters */
+
+    public double getPrefix(int index) {
+        return prefix[index];
+    }
+
+    public double getTotal() {
+        return size == 0 ? 0 : prefix[size - 1];
+    }
+
+    public int getSize() {
+        return size;
+    }
+}
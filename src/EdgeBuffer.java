@@ -0,0 +1,194 @@
+import java.awt.Polygon;
+import java.awt.geom.Line2D;
+
+public class EdgeBuffer implements EdgeIndex {
+
+    // Candidates in a mask word from which hitMask() runs a kernel over the whole word; Measured on the 1100-edge dense
+    // test map with the segments of an evolved population, each bucket of words timed on its own, best of three runs
+    // in ns per mask word (BVH words unless marked, 8 lanes for the Vector API):
+    //   candidates       1     2     3   4-7  8-11 12-15 16-23 24-31 32-47 48-63  64 (NONE)
+    //   Line2D          12   104    57    28    93   133   226   281   382   375   354
+    //   scalar kernel  230   339   263   252   265   248   278   327   380   420   466
+    //   Vector API      47   112    60    54   116   169   197   252   307   320   299
+    // The scalar kernel at best breaks even with Line2D near 48 candidates, the Vector API kernel wins from 16. Words
+    // of the GRID index hold 3 to 8 candidates and stay on Line2D, which was faster than both kernels in every GRID
+    // bucket up to 31 candidates
+    public static final int DENSE_WORD = 48;
+    public static final int VECTOR_WORD = 16;   // DENSE_WORD for the Vector API kernel
+
+    // Vector API is used only if jdk.incubator.vector was added at launch; VectorKernel is not loaded otherwise
+    private static final boolean VECTOR_API = ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent();
+
+    private final double[] x1;          // Start x-coordinate of each obstacle boundary
+    private final double[] y1;          // Start y-coordinate of each obstacle boundary
+    private final double[] x2;          // End x-coordinate of each obstacle boundary
+    private final double[] y2;          // End y-coordinate of each obstacle boundary
+    private final int[] offsets;        // Edges of obstacle i are [offsets[i], offsets[i + 1])
+    private final VectorKernel vectorKernel;    // Null without the Vector API
+
+    // EdgeBuffer Constructor; Compiles boundaries of every obstacle once
+    EdgeBuffer(Obstacle[] obstacles) {
+        offsets = new int[obstacles.length + 1];
+
+        for (int i = 0; i < obstacles.length; i++)
+            offsets[i + 1] = offsets[i] + obstacles[i].getPolygon().npoints;
+
+        x1 = new double[offsets[obstacles.length]];
+        y1 = new double[offsets[obstacles.length]];
+        x2 = new double[offsets[obstacles.length]];
+        y2 = new double[offsets[obstacles.length]];
+
+        for (int i = 0; i < obstacles.length; i++) {
+            Polygon polygon = obstacles[i].getPolygon();
+
+            // Boundaries are stored in the same order as Obstacle.getBoundaries()
+            for (int j = 0; j < polygon.npoints; j++) {
+                int e = offsets[i] + j;
+                int next = (j + 1) % polygon.npoints;
+
+                x1[e] = polygon.xpoints[j];
+                y1[e] = polygon.ypoints[j];
+                x2[e] = polygon.xpoints[next];
+                y2[e] = polygon.ypoints[next];
+            }
+        }
+
+        vectorKernel = VECTOR_API ? new VectorKernel(x1, y1, x2, y2) : null;
+    }
+
+    /* Important Functions */
+
+    // Determines whether segment intersects any obstacle boundary; Every boundary is a candidate, so full words of
+    // boundaries go through the batch kernel
+    public boolean intersects(double x1, double y1, double x2, double y2) {
+        EvaluationScratch scratch = EvaluationScratch.get();
+
+        for (int word = 0; word < getMaskLength(); word++) {
+            long candidates = (word == getMaskLength() - 1 && getEdgeCount() % 64 != 0)
+                    ? (1L << (getEdgeCount() % 64)) - 1 : -1L;
+
+            if (hitMask(word, candidates, x1, y1, x2, y2, scratch.getSegmentSides(), scratch.getEdgeSides()) != 0)
+                return true;
+        }
+
+        return false;
+    }
+
+    // Every boundary is a candidate when no spatial index is used
+    public void markCandidates(double x1, double y1, double x2, double y2, long[] mask) {
+        for (int i = 0; i < mask.length; i++)
+            mask[i] = -1L;
+
+        if (getEdgeCount() % 64 != 0)
+            mask[mask.length - 1] = (1L << (getEdgeCount() % 64)) - 1;
+    }
+
+    // Determines whether segment intersects any boundary of specified obstacle
+    public boolean intersectsObstacle(int obstacle, double x1, double y1, double x2, double y2) {
+        for (int e = offsets[obstacle]; e < offsets[obstacle + 1]; e++) {
+            if (intersectsEdge(e, x1, y1, x2, y2))
+                return true;
+        }
+
+        return false;
+    }
+
+    // Determines whether segment intersects specified boundary; Same test as Line2D.intersectsLine()
+    public boolean intersectsEdge(int edge, double x1, double y1, double x2, double y2) {
+        return Line2D.linesIntersect(x1, y1, x2, y2, this.x1[edge], this.y1[edge], this.x2[edge], this.y2[edge]);
+    }
+
+    // Narrows candidates of mask word to the boundaries segment intersects; For words with at least DENSE_WORD
+    // candidates, or VECTOR_WORD with the Vector API, orientation products of the whole word are computed first, so
+    // only the sign checks are per candidate. Scratch arrays hold at least 64 values
+    public long hitMask(int word, long candidates, double x1, double y1, double x2, double y2, double[] segmentSides, double[] edgeSides) {
+        int first = word << 6;
+        long hits = 0;
+
+        // Sparse words are tested one boundary at a time, as Line2D rejects most misses after two cross products
+        if (Long.bitCount(candidates) < (vectorKernel != null ? VECTOR_WORD : DENSE_WORD)) {
+            for (long bits = candidates; bits != 0; bits &= bits - 1) {
+                int i = Long.numberOfTrailingZeros(bits);
+
+                if (intersectsEdge(first + i, x1, y1, x2, y2))
+                    hits |= 1L << i;
+            }
+
+            return hits;
+        }
+
+        if (vectorKernel != null)
+            return vectorKernel.hitMask(first, candidates, x1, y1, x2, y2, segmentSides, edgeSides);
+
+        orientations(first, Math.min(first + 64, getEdgeCount()), x1, y1, x2, y2, segmentSides, edgeSides);
+
+        for (long bits = candidates; bits != 0; bits &= bits - 1) {
+            int i = Long.numberOfTrailingZeros(bits);
+
+            // A product of zero means an endpoint is collinear, or the product underflowed; Line2D decides those
+            if (segmentSides[i] < 0 && edgeSides[i] < 0
+                    || (segmentSides[i] == 0 || edgeSides[i] == 0) && intersectsEdge(first + i, x1, y1, x2, y2))
+                hits |= 1L << i;
+        }
+
+        return hits;
+    }
+
+    // Writes, for each boundary in [from, to), the product of the orientations of its endpoints relative to segment
+    // and the product of the orientations of segment's endpoints relative to it; Both are negative exactly when
+    // Line2D.relativeCCW() puts the endpoints on opposite sides, as the cross products are computed the same way
+    private void orientations(int from, int to, double x1, double y1, double x2, double y2, double[] segmentSides, double[] edgeSides) {
+        double dx = x2 - x1;
+        double dy = y2 - y1;
+
+        for (int e = from; e < to; e++) {
+            double ex = this.x2[e] - this.x1[e];
+            double ey = this.y2[e] - this.y1[e];
+            double ccw1 = (this.x1[e] - x1) * dy - (this.y1[e] - y1) * dx;
+            double ccw2 = (this.x2[e] - x1) * dy - (this.y2[e] - y1) * dx;
+            double ccw3 = (x1 - this.x1[e]) * ey - (y1 - this.y1[e]) * ex;
+            double ccw4 = (x2 - this.x1[e]) * ey - (y2 - this.y1[e]) * ex;
+            segmentSides[e - from] = ccw1 * ccw2;
+            edgeSides[e - from] = ccw3 * ccw4;
+        }
+    }
+
+    /* Getters */
+
+    public int getEdgeCount() {
+        return x1.length;
+    }
+
+    // Number of words needed for a candidate mask over all boundaries
+    public int getMaskLength() {
+        return (getEdgeCount() + 63) / 64;
+    }
+
+    public int getObstacleCount() {
+        return offsets.length - 1;
+    }
+
+    public int getFirstEdge(int obstacle) {
+        return offsets[obstacle];
+    }
+
+    public int getEndEdge(int obstacle) {
+        return offsets[obstacle + 1];
+    }
+
+    public double getX1(int edge) {
+        return x1[edge];
+    }
+
+    public double getY1(int edge) {
+        return y1[edge];
+    }
+
+    public double getX2(int edge) {
+        return x2[edge];
+    }
+
+    public double getY2(int edge) {
+        return y2[edge];
+    }
+}
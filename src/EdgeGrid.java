@@ -0,0 +1,117 @@
+public class EdgeGrid implements EdgeIndex {
+
+    private final EdgeBuffer edges;
+    private final double cellSize;
+    private final int columns;
+    private final int rows;
+    private final int[] cellStart;      // Edges in cell c are cellEdges[cellStart[c]] to cellEdges[cellStart[c + 1] - 1]
+    private final int[] cellEdges;
+
+    // EdgeGrid Constructor; Buckets every boundary into the cells covered by its bounding box
+    EdgeGrid(EdgeBuffer edges, double cellSize) {
+        this.edges = edges;
+        this.cellSize = cellSize;
+        columns = Math.max(1, (int) Math.ceil(Constants.MAX_X_VALUE / cellSize));
+        rows = Math.max(1, (int) Math.ceil(Constants.MAX_Y_VALUE / cellSize));
+        cellStart = new int[columns * rows + 1];
+
+        // Counts boundaries per cell
+        for (int e = 0; e < edges.getEdgeCount(); e++) {
+            for (int r = row(Math.min(edges.getY1(e), edges.getY2(e))); r <= row(Math.max(edges.getY1(e), edges.getY2(e))); r++) {
+                for (int c = column(Math.min(edges.getX1(e), edges.getX2(e))); c <= column(Math.max(edges.getX1(e), edges.getX2(e))); c++)
+                    cellStart[r * columns + c + 1]++;
+            }
+        }
+
+        for (int i = 0; i < columns * rows; i++)
+            cellStart[i + 1] += cellStart[i];
+
+        // Fills cells in ascending edge order
+        cellEdges = new int[cellStart[columns * rows]];
+        int[] fill = new int[columns * rows];
+
+        for (int e = 0; e < edges.getEdgeCount(); e++) {
+            for (int r = row(Math.min(edges.getY1(e), edges.getY2(e))); r <= row(Math.max(edges.getY1(e), edges.getY2(e))); r++) {
+                for (int c = column(Math.min(edges.getX1(e), edges.getX2(e))); c <= column(Math.max(edges.getX1(e), edges.getX2(e))); c++) {
+                    int cell = r * columns + c;
+                    cellEdges[cellStart[cell] + fill[cell]++] = e;
+                }
+            }
+        }
+    }
+
+    /* Important Functions */
+
+    public boolean intersects(double x1, double y1, double x2, double y2) {
+        return traverse(x1, y1, x2, y2, null);
+    }
+
+    public void markCandidates(double x1, double y1, double x2, double y2, long[] mask) {
+        for (int i = 0; i < mask.length; i++)
+            mask[i] = 0;
+
+        traverse(x1, y1, x2, y2, mask);
+    }
+
+    // Walks the cells crossed by segment row by row (DDA); Tests boundaries if mask is null, otherwise marks them
+    private boolean traverse(double x1, double y1, double x2, double y2, long[] mask) {
+        double pad = Constants.FLOAT_THRESHOLD;
+        double minX = Math.min(x1, x2);
+        double maxX = Math.max(x1, x2);
+        double minY = Math.min(y1, y2);
+        double maxY = Math.max(y1, y2);
+        int lastRow = row(maxY + pad);
+
+        for (int r = row(minY - pad); r <= lastRow; r++) {
+            // Portion of segment inside this row; Border rows extend past the field
+            double bandLow = (r == 0) ? minY : Math.max(minY, r * cellSize);
+            double bandHigh = (r == rows - 1) ? maxY : Math.min(maxY, (r + 1) * cellSize);
+            double spanLow = minX;
+            double spanHigh = maxX;
+
+            if (y1 != y2) {
+                double xLow = x1 + (bandLow - y1) * (x2 - x1) / (y2 - y1);
+                double xHigh = x1 + (bandHigh - y1) * (x2 - x1) / (y2 - y1);
+                spanLow = Math.max(minX, Math.min(xLow, xHigh));
+                spanHigh = Math.min(maxX, Math.max(xLow, xHigh));
+            }
+
+            int lastColumn = column(spanHigh + pad);
+
+            for (int c = column(spanLow - pad); c <= lastColumn; c++) {
+                int cell = r * columns + c;
+
+                for (int i = cellStart[cell]; i < cellStart[cell + 1]; i++) {
+                    int e = cellEdges[i];
+
+                    if (mask != null)
+                        mask[e >>> 6] |= 1L << e;
+                    else if (edges.intersectsEdge(e, x1, y1, x2, y2))
+                        return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    // Column of x-coordinate; Coordinates outside the field fall into border cells
+    private int column(double x) {
+        return Math.min(columns - 1, Math.max(0, (int) Math.floor(x / cellSize)));
+    }
+
+    // Row of y-coordinate; Coordinates outside the field fall into border cells
+    private int row(double y) {
+        return Math.min(rows - 1, Math.max(0, (int) Math.floor(y / cellSize)));
+    }
+
+    /* Getters */
+
+    public EdgeBuffer getEdges() {
+        return edges;
+    }
+
+    public double getCellSize() {
+        return cellSize;
+    }
+}
@@ -0,0 +1,7 @@
+interface EdgeIndex {
+    // Determines whether segment intersects any obstacle boundary
+    boolean intersects(double x1, double y1, double x2, double y2);
+
+    // Clears mask and sets the bit of every boundary that segment could intersect
+    void markCandidates(double x1, double y1, double x2, double y2, long[] mask);
+}
@@ -0,0 +1,3 @@
+enum EngineMode {
+    GENERATIONAL, STEADY_STATE
+}
@@ -0,0 +1,91 @@
+import java.util.Arrays;
+
+public class EvaluationScratch {
+
+    // Each thread evaluates on its own buffers, so no individual keeps buffers between evaluations
+    private static final ThreadLocal<EvaluationScratch> SCRATCH = ThreadLocal.withInitial(EvaluationScratch::new);
+
+    private final long[] candidateMask = new long[Constants.EDGES.getMaskLength()];
+    private final double[] segmentSides = new double[64];     // Orientation products of a mask word; See EdgeBuffer.hitMask()
+    private final double[] edgeSides = new double[64];
+    private double[] pointsX = new double[16];      // Unique collision points of the path intersected last
+    private double[] pointsY = new double[16];
+    private int pointCount;
+    private double[] collisionX = new double[16];   // Collision points of every path of the chromosome folded last
+    private double[] collisionY = new double[16];
+    private int[] collisionStart = new int[Constants.MAX_CHROMOSOME_LENGTH];     // Points of path i start at collisionStart[i]
+
+    /* Important Functions */
+
+    // Buffers of the calling thread
+    public static EvaluationScratch get() {
+        return SCRATCH.get();
+    }
+
+    // Appends a collision point of the path being intersected
+    public void addPoint(double x, double y) {
+        if (pointCount == pointsX.length) {
+            pointsX = Arrays.copyOf(pointsX, 2 * pointCount);
+            pointsY = Arrays.copyOf(pointsY, 2 * pointCount);
+        }
+
+        pointsX[pointCount] = x;
+        pointsY[pointCount] = y;
+        pointCount++;
+    }
+
+    // Grows fold buffers to hold specified number of points and paths
+    public void ensureCollisionCapacity(int points, int paths) {
+        if (collisionX.length < points) {
+            collisionX = Arrays.copyOf(collisionX, Math.max(points, 2 * collisionX.length));
+            collisionY = Arrays.copyOf(collisionY, Math.max(points, 2 * collisionY.length));
+        }
+
+        if (collisionStart.length < paths + 1)
+            collisionStart = Arrays.copyOf(collisionStart, Math.max(paths + 1, 2 * collisionStart.length));
+    }
+
+    /* Setters */
+
+    public void clearPoints() {
+        pointCount = 0;
+    }
+
+    /* Getters */
+
+    public long[] getCandidateMask() {
+        return candidateMask;
+    }
+
+    public double[] getSegmentSides() {
+        return segmentSides;
+    }
+
+    public double[] getEdgeSides() {
+        return edgeSides;
+    }
+
+    public double[] getPointsX() {
+        return pointsX;
+    }
+
+    public double[] getPointsY() {
+        return pointsY;
+    }
+
+    public int getPointCount() {
+        return pointCount;
+    }
+
+    public double[] getCollisionX() {
+        return collisionX;
+    }
+
+    public double[] getCollisionY() {
+        return collisionY;
+    }
+
+    public int[] getCollisionStart() {
+        return collisionStart;
+    }
+}
@@ -0,0 +1,30 @@
+import java.util.concurrent.RecursiveAction;
+
+public class EvaluationTask extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Individual[] individuals;
+    private final int low;      // First individual evaluated by this task
+    private final int high;     // Individual after the last one evaluated by this task
+
+    // EvaluationTask Constructor
+    EvaluationTask(Individual[] individuals, int low, int high) {
+        this.individuals = individuals;
+        this.low = low;
+        this.high = high;
+    }
+
+    /* Important Functions */
+
+    // Evaluates range directly once it is small enough; Otherwise splits it in half
+    protected void compute() {
+        if (high - low <= Constants.EVALUATION_GRAIN) {
+            for (int i = low; i < high; i++)
+                individuals[i].evaluate();
+        } else {
+            int mid = (low + high) >>> 1;
+            invokeAll(new EvaluationTask(individuals, low, mid), new EvaluationTask(individuals, mid, high));
+        }
+    }
+}
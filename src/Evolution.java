@@ -1,338 +1,371 @@
-
-import java.util.Arrays;
-
-public class Evolution {
-
-    // Evolves population to next generation
-    public static void evolvePopulation(Population currentGen, Population nextGen) {
-        SelectionMethod selection = SelectionMethod.TOS;
-        CrossoverOperator crossover = CrossoverOperator.INTELLIGENT;
-        performNaturalSelection(currentGen, nextGen, selection);
-        performCrossover(currentGen, nextGen, crossover);
-        performMutation(currentGen, nextGen);
-    }
-
-    // Performs natural selection and appends survivors to next generation
-    public static void performNaturalSelection(Population currentGen, Population nextGen, SelectionMethod selection) {
-        switch (selection) {
-            case RWS:
-                rouletteWheelSelection(currentGen, nextGen);
-                break;
-            case SUS:
-                stochasticUniversalSampling(currentGen, nextGen);
-                break;
-            case LRS:
-                linearRankSelection(currentGen, nextGen);
-                break;
-            case TOS:
-                tournamentSelection(currentGen, nextGen);
-                break;
-            case TRS:
-                truncationSelection(currentGen, nextGen);
-                break;
-            case CS:
-                combinedSelection(currentGen, nextGen);
-        }
-    }
-
-    // Performs crossover and appends offspring to next generation
-    public static void performCrossover(Population currentGen, Population nextGen, CrossoverOperator crossover) {
-        // Performs crossover and appends offspring to next generation
-        for (int i = 0; i < nextGen.getSize() / 2 - 1; i += 2) {
-            if (Math.random() <= Constants.CROSSOVER_PROBABILITY) {
-                Individual[] offspring = new Individual[2];
-                switch (crossover) {
-                    case ONE_POINT:
-                        offspring = onePointCrossover(nextGen.getIndividual(i), nextGen.getIndividual(i + 1));
-                        break;
-                    case K_POINT:
-                        offspring = kPointCrossover(nextGen.getIndividual(i), nextGen.getIndividual(i + 1));
-                        break;
-                    case INTELLIGENT:
-                        offspring[0] = intelligentCrossover(nextGen.getIndividual(i), nextGen.getIndividual(i + 1));
-
-                        if (i + 2 < nextGen.getSize() / 2 - 1) {
-                            offspring[1] = intelligentCrossover(nextGen.getIndividual(i + 1), nextGen.getIndividual(i + 2));
-                        } else {
-                            offspring[1] = intelligentCrossover(nextGen.getIndividual(0), nextGen.getIndividual(nextGen.getSize() / 2 - 1));
-                        }
-                }
-
-                offspring[0].mutate();
-                offspring[1].mutate();
-
-                nextGen.saveIndividual(i + nextGen.getSize() / 2, offspring[0]);
-                nextGen.saveIndividual(i + 1 + nextGen.getSize() / 2, offspring[1]);
-            } else {
-                nextGen.saveIndividual(i + nextGen.getSize() / 2, nextGen.getIndividual(i).clone());
-                nextGen.saveIndividual(i + 1 + nextGen.getSize() / 2, nextGen.getIndividual(i + 1).clone());
-            }
-        }
-
-        // Special case if population size is odd
-        if (nextGen.getSize() % 2 == 1 || (nextGen.getSize() / 2) % 2 == 1) {
-            nextGen.saveIndividual(nextGen.getSize() - 1, new Individual(true, (int) (Math.random() * (Constants.MAX_CHROMOSOME_LENGTH -
-                    Constants.MIN_CHROMOSOME_LENGTH + 1) + Constants.MIN_CHROMOSOME_LENGTH)));
-        }
-        nextGen.quickSort();
-    }
-
-    // Each non-elite individual is subjected to mutation under some mutation probability
-    public static void performMutation(Population currentGen, Population nextGen) {
-        for (int i = Constants.ELITE_SURVIVORS; i < nextGen.getSize(); i++) {
-            if (Math.random() <= Constants.MUTATION_PROBABILITY) {
-                nextGen.getIndividual(i).mutate();
-            }
-        }
-        nextGen.quickSort();
-    }
-
-    /* Selection Methods (RWS, SUS, LRS, TOS, TRS, and CS) */
-
-    // Selects portion of the fittest individuals
-    public static void performElitism(Population population, Population eliteSurvivors) {
-        population.quickSort();
-        for (int i = 0; i < Constants.ELITE_SURVIVORS; i++) {
-            eliteSurvivors.saveIndividual(i, population.getIndividual(i));
-        }
-    }
-
-    // Probability of selection is ratio of individual's fitness to total fitness sum
-    public static void rouletteWheelSelection(Population population, Population survivors) {
-        double totalFitness = population.totalCost();
-        double maxMinSum = population.getFittest().getCost() + population.getWorst().getCost();
-        performElitism(population, survivors);
-        for (int i = Constants.ELITE_SURVIVORS; i < population.getSize() / 2; i++) {
-            double iSum = Math.random() * totalFitness;
-            int j = 0;
-            do {
-                iSum -= maxMinSum - population.getIndividual(j).getCost();
-                j++;
-            } while (iSum > 0 && j < population.getSize());
-            survivors.saveIndividual(i, population.getIndividual(j - 1).clone());
-        }
-    }
-
-    // Variant of RWS; Reduces risk of premature convergence
-    public static void stochasticUniversalSampling(Population population, Population survivors) {
-        double sum = population.getFittest().getCost();
-        double delta = Math.random() * population.avgCost();
-        int i = Constants.ELITE_SURVIVORS;
-        int j = 0;
-        performElitism(population, survivors);
-        do {
-            if (delta < sum) {
-                survivors.saveIndividual(i, population.getIndividual(j).clone());
-                delta += sum;
-                i++;
-            } else if (j + 1 == population.getSize()) {
-                sum = population.getFittest().getCost();
-                delta = Math.random() * population.avgCost();
-                j = 0;
-            } else {
-                j++;
-                sum += population.getIndividual(j).getCost();
-            }
-        } while (i < population.getSize() / 2);
-    }
-
-    // Variant of RWS; Selection probability is ratio of individual's rank to total rank sum; Reduces risk of premature convergence
-    public static void linearRankSelection(Population population, Population survivors) {
-        performElitism(population, survivors);
-        for (int i = Constants.ELITE_SURVIVORS; i < population.getSize() / 2; i++) {
-            for (int j = 0; j < population.getSize(); j++) {
-                if ((population.getSize() - j) / (population.getSize() * (population.getSize() - 1.0))
-                        <= Math.random() * (1.0 / (population.getSize() - 2.001))) {
-                    survivors.saveIndividual(i, population.getIndividual(j).clone());
-                    break;
-                }
-            }
-            if (survivors.getPopulation()[i] == null) {
-                i--;
-            }
-        }
-    }
-
-    // Selects fittest individual from each random group of random individuals
-    public static void tournamentSelection(Population population, Population survivors) {
-        performElitism(population, survivors);
-        for (int i = Constants.ELITE_SURVIVORS; i < population.getSize() / 2; i++) {
-            Population tournament = new Population(false, Constants.TOURNAMENT_SIZE);
-            for (int j = 0; j < Constants.TOURNAMENT_SIZE; j++) {
-                tournament.saveIndividual(j, population.getIndividual((int) (Math.random() * population.getSize())));
-            }
-            survivors.saveIndividual(i, tournament.getFittest().clone());
-        }
-    }
-
-    // Selects first half of the fittest individuals
-    public static void truncationSelection(Population population, Population survivors) {
-        performElitism(population, survivors);
-        for (int i = 0; i < population.getSize() / 2; i++) {
-            survivors.saveIndividual(i, population.getIndividual(i).clone());
-        }
-    }
-
-    // Determines and performs most reliable selection method
-    public static void combinedSelection(Population currentGen, Population nextGen) {
-        CSMethod[] candidateMethod = CSMethod.values();
-        CSMethod recommendedMethod = candidateMethod[0];
-        // Determines most reliable selection method
-        for (int i = 1; i < candidateMethod.length; i++) {
-            if (calcReliability(currentGen, recommendedMethod) < calcReliability(currentGen, candidateMethod[i])) {
-                recommendedMethod = candidateMethod[i];
-            }
-        }
-        // Performs most reliable selection method
-        switch (recommendedMethod) {
-            case RWS:
-                rouletteWheelSelection(currentGen, nextGen);
-                break;
-            case SUS:
-                stochasticUniversalSampling(currentGen, nextGen);
-                break;
-            case LRS:
-                linearRankSelection(currentGen, nextGen);
-                break;
-            case TOS:
-                tournamentSelection(currentGen, nextGen);
-                break;
-            case TRS:
-                truncationSelection(currentGen, nextGen);
-        }
-    }
-
-    // Calculates reliability of selection method; Depends on mean diversity and population quality
-    public static double calcReliability(Population population, CSMethod method) {
-        double highestCost = population.getFittest().getCost();
-        double lowestCost = population.getWorst().getCost();
-        double meanDiversity = 0;
-        // Performs multiple runs of selection
-        for (int i = 0; i < Constants.COMBINED_SELECTION_RUNS; i++) {
-            Population survivors = new Population(false, population.getSize() / 2);
-            switch (method) {
-                case RWS:
-                    rouletteWheelSelection(population, survivors);
-                    break;
-                case SUS:
-                    stochasticUniversalSampling(population, survivors);
-                    break;
-                case LRS:
-                    linearRankSelection(population, survivors);
-                    break;
-                case TOS:
-                    tournamentSelection(population, survivors);
-                    break;
-                case TRS:
-                    truncationSelection(population, survivors);
-            }
-            if (highestCost < survivors.getFittest().getCost()) {
-                highestCost = survivors.getFittest().getCost();
-            }
-            if (lowestCost > survivors.getWorst().getCost()) {
-                lowestCost = survivors.getWorst().getCost();
-            }
-            meanDiversity += survivors.diversity();
-        }
-        meanDiversity /= Constants.COMBINED_SELECTION_RUNS;
-        // Returns reliability value of selection method
-        return meanDiversity / MainGA.generation + (MainGA.generation - 1) * lowestCost
-                / Math.sqrt(Math.pow(highestCost, 2) + Math.pow(lowestCost, 2)) / MainGA.generation;
-    }
-
-    /* Crossover Operators (1-Point, K-Point, and Intelligent) */
-
-    // Swaps genes of parents over one crossover point to produce 2 offspring
-    public static Individual[] onePointCrossover(Individual parent1, Individual parent2) {
-        Individual[] offspring = new Individual[2];
-        offspring[0] = new Individual(false, parent2.getLength());
-        offspring[1] = new Individual(false, parent1.getLength());
-        int crossoverPoint = (int) (Math.random() * (Math.min(parent1.getLength(), parent2.getLength()) - 3)) + 2;
-        for (int i = 0; i < crossoverPoint; i++) {
-            offspring[0].changeNode(i, parent1.getNode(i));
-            offspring[1].changeNode(i, parent2.getNode(i));
-        }
-        for (int i = crossoverPoint; i < offspring[0].getLength(); i++) {
-            offspring[0].changeNode(i, parent2.getNode(i));
-        }
-        for (int i = crossoverPoint; i < offspring[1].getLength(); i++) {
-            offspring[1].changeNode(i, parent1.getNode(i));
-        }
-        return offspring;
-    }
-
-    // Swaps genes of parents over a random number of crossover points to produce 2 offspring
-    public static Individual[] kPointCrossover(Individual parent1, Individual parent2) {
-        Individual[] offspring = new Individual[2];
-        offspring[0] = new Individual(false, parent2.getLength());
-        offspring[1] = new Individual(false, parent1.getLength());
-        int[] crossoverPoints = new int[(int) (Math.random() * (Math.min(parent1.getLength(), parent2.getLength()) - 3)) + 1];
-        // Creates an array of random crossover points
-        for (int i = 0; i < crossoverPoints.length; i++) {
-            boolean uniqueOccurrence;
-            do {
-                uniqueOccurrence = true;
-                crossoverPoints[i] = (int) (Math.random() * (Math.min(parent1.getLength(), parent2.getLength()) - 3)) + 2;
-                for (int j = 0; j < i; j++) {
-                    if (crossoverPoints[i] == crossoverPoints[j]) {
-                        uniqueOccurrence = false;
-                    }
-                }
-            } while (!uniqueOccurrence);
-        }
-        Arrays.sort(crossoverPoints);
-        for (int i = 0; i < crossoverPoints[0]; i++) {
-            offspring[0].changeNode(i, parent1.getNode(i));
-            offspring[1].changeNode(i, parent2.getNode(i));
-        }
-        for (int i = 0; i < 2; i++) {
-            for (int j = i; j < crossoverPoints.length - 1; j += 2) {
-                for (int k = crossoverPoints[j]; k < crossoverPoints[j + 1]; k++) {
-                    offspring[0].changeNode(k, parent2.getNode(k));
-                    offspring[1].changeNode(k, parent1.getNode(k));
-                }
-            }
-        }
-        for (int i = crossoverPoints[crossoverPoints.length - 1]; i < offspring[0].getLength(); i++) {
-            offspring[0].changeNode(i, parent2.getNode(i));
-        }
-        for (int i = crossoverPoints[crossoverPoints.length - 1]; i < offspring[1].getLength(); i++) {
-            offspring[1].changeNode(i, parent1.getNode(i));
-        }
-        return offspring;
-    }
-
-    // Performs intelligent crossover to produce 1 offspring
-    public static Individual intelligentCrossover(Individual parent1, Individual parent2) {
-        Individual offspring = new Individual();
-        boolean parent1Selected = false;
-        int i = 0;
-        do {
-            if (i < Math.min(parent1.getLength(), parent2.getLength()) - 1 && parent1.getNode(i).distance(parent2.getNode(i)) < 2) {
-                boolean p1IsFeasible = parent1.isFeasible();
-                boolean p2IsFeasible = parent2.isFeasible();
-                if (p1IsFeasible == p2IsFeasible && parent1.getNode(i + 1).distance(Constants.GOAL_NODE)
-                        < parent2.getNode(i + 1).distance(Constants.GOAL_NODE) + Constants.FLOAT_THRESHOLD) {
-                    offspring.addNode(i, parent1.getNode(i));
-                    parent1Selected = true;
-                } else if (p1IsFeasible == p2IsFeasible) {
-                    offspring.addNode(i, parent2.getNode(i));
-                    parent1Selected = false;
-                } else if (p1IsFeasible) {
-                    offspring.addNode(i, parent1.getNode(i));
-                    parent1Selected = true;
-                } else {
-                    offspring.addNode(i, parent2.getNode(i));
-                    parent1Selected = false;
-                }
-            } else if (parent1Selected) {
-                offspring.addNode(parent1.getNode(i));
-            } else {
-                offspring.addNode(parent2.getNode(i));
-            }
-            i++;
-        } while (offspring.getNode(i - 1).getX() != Constants.GOAL_NODE.getX()
-                || offspring.getNode(i - 1).getY() != Constants.GOAL_NODE.getY());
-        return offspring;
-    }
-}
+
+import java.awt.geom.Point2D;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+public class Evolution {
+
+    // Evolves population to next generation; Generation is the caller's count of the current generation
+    public static void evolvePopulation(Population currentGen, Population nextGen, int generation, SplittableRandom random) {
+        SelectionMethod selection = SelectionMethod.TOS;
+        CrossoverOperator crossover = CrossoverOperator.INTELLIGENT;
+        performNaturalSelection(currentGen, nextGen, selection, generation, random);
+        performCrossover(currentGen, nextGen, crossover, random);
+        performMutation(currentGen, nextGen, random);
+    }
+
+    // Performs natural selection and appends survivors to next generation
+    public static void performNaturalSelection(Population currentGen, Population nextGen, SelectionMethod selection, int generation,
+                                               SplittableRandom random) {
+        switch (selection) {
+            case RWS:
+                rouletteWheelSelection(currentGen, nextGen, random);
+                break;
+            case SUS:
+                stochasticUniversalSampling(currentGen, nextGen, random);
+                break;
+            case LRS:
+                linearRankSelection(currentGen, nextGen, random);
+                break;
+            case TOS:
+                tournamentSelection(currentGen, nextGen, random);
+                break;
+            case TRS:
+                truncationSelection(currentGen, nextGen);
+                break;
+            case CS:
+                combinedSelection(currentGen, nextGen, generation, random);
+        }
+    }
+
+    // Performs crossover and appends offspring to next generation
+    public static void performCrossover(Population currentGen, Population nextGen, CrossoverOperator crossover, SplittableRandom random) {
+        // Performs crossover and writes offspring directly into the second half of next generation
+        for (int i = 0; i < nextGen.getSize() / 2 - 1; i += 2) {
+            Individual offspring1 = nextGen.getIndividual(i + nextGen.getSize() / 2);
+            Individual offspring2 = nextGen.getIndividual(i + 1 + nextGen.getSize() / 2);
+            if (random.nextDouble() <= Constants.CROSSOVER_PROBABILITY) {
+                switch (crossover) {
+                    case ONE_POINT:
+                        onePointCrossover(nextGen.getIndividual(i), nextGen.getIndividual(i + 1), offspring1, offspring2, random);
+                        break;
+                    case K_POINT:
+                        kPointCrossover(nextGen.getIndividual(i), nextGen.getIndividual(i + 1), offspring1, offspring2, random);
+                        break;
+                    case INTELLIGENT:
+                        intelligentCrossover(nextGen.getIndividual(i), nextGen.getIndividual(i + 1), offspring1);
+
+                        if (i + 2 < nextGen.getSize() / 2 - 1) {
+                            intelligentCrossover(nextGen.getIndividual(i + 1), nextGen.getIndividual(i + 2), offspring2);
+                        } else {
+                            intelligentCrossover(nextGen.getIndividual(0), nextGen.getIndividual(nextGen.getSize() / 2 - 1), offspring2);
+                        }
+                }
+
+                offspring1.mutate(random);
+                offspring2.mutate(random);
+            } else {
+                offspring1.copyFrom(nextGen.getIndividual(i));
+                offspring2.copyFrom(nextGen.getIndividual(i + 1));
+            }
+        }
+
+        // Special case if population size is odd
+        if (nextGen.getSize() % 2 == 1 || (nextGen.getSize() / 2) % 2 == 1) {
+            nextGen.getIndividual(nextGen.getSize() - 1).randomize((int) (random.nextDouble() * (Constants.MAX_CHROMOSOME_LENGTH -
+                    Constants.MIN_CHROMOSOME_LENGTH + 1) + Constants.MIN_CHROMOSOME_LENGTH), random);
+        }
+        // Mutation only has to spare the elites, so a partial selection replaces a full sort
+        nextGen.evaluate();
+        nextGen.selectFittest(Constants.ELITE_SURVIVORS);
+    }
+
+    // Each non-elite individual is subjected to mutation under some mutation probability
+    public static void performMutation(Population currentGen, Population nextGen, SplittableRandom random) {
+        for (int i = Constants.ELITE_SURVIVORS; i < nextGen.getSize(); i++) {
+            if (random.nextDouble() <= Constants.MUTATION_PROBABILITY) {
+                nextGen.getIndividual(i).mutate(random);
+            }
+        }
+        nextGen.evaluate();
+        nextGen.sort();
+    }
+
+    /* Selection Methods (RWS, SUS, LRS, TOS, TRS, and CS) */
+
+    // Selects portion of the fittest individuals
+    public static void performElitism(Population population, Population eliteSurvivors) {
+        population.sort();
+        for (int i = 0; i < Constants.ELITE_SURVIVORS; i++) {
+            eliteSurvivors.saveIndividual(i, population.getIndividual(i));
+        }
+    }
+
+    // Copies picked survivors after the elites into next generation
+    public static void saveSurvivors(Population population, Population survivors, int[] picks) {
+        for (int i = Constants.ELITE_SURVIVORS; i < population.getSize() / 2; i++) {
+            survivors.saveIndividual(i, population.getIndividualInSlot(picks[i]));
+        }
+    }
+
+    // Probability of selection is ratio of individual's fitness to total fitness sum
+    public static void rouletteWheelSelection(Population population, Population survivors, SplittableRandom random) {
+        performElitism(population, survivors);
+        rouletteWheelPicks(population, population.getPicks(), population.getSamplingTable(), random);
+        saveSurvivors(population, survivors, population.getPicks());
+    }
+
+    // Variant of RWS; Reduces risk of premature convergence
+    public static void stochasticUniversalSampling(Population population, Population survivors, SplittableRandom random) {
+        performElitism(population, survivors);
+        stochasticUniversalPicks(population, population.getPicks(), population.getSamplingTable(), random);
+        saveSurvivors(population, survivors, population.getPicks());
+    }
+
+    // Variant of RWS; Selection probability is ratio of individual's rank to total rank sum; Reduces risk of premature convergence
+    public static void linearRankSelection(Population population, Population survivors, SplittableRandom random) {
+        performElitism(population, survivors);
+        linearRankPicks(population, population.getPicks(), population.getSamplingTable(), random);
+        saveSurvivors(population, survivors, population.getPicks());
+    }
+
+    // Selects fittest individual from each random group of random individuals
+    public static void tournamentSelection(Population population, Population survivors, SplittableRandom random) {
+        performElitism(population, survivors);
+        tournamentPicks(population, population.getPicks(), random);
+        saveSurvivors(population, survivors, population.getPicks());
+    }
+
+    // Selects first half of the fittest individuals
+    public static void truncationSelection(Population population, Population survivors) {
+        performElitism(population, survivors);
+        truncationPicks(population, population.getPicks());
+        saveSurvivors(population, survivors, population.getPicks());
+    }
+
+    // Determines and performs most reliable selection method
+    public static void combinedSelection(Population currentGen, Population nextGen, int generation, SplittableRandom random) {
+        // Estimator belongs to the run, so a new run never inherits an earlier run's recommendation
+        ReliabilityEstimator estimator = currentGen.getEstimator();
+        if (estimator == null) {
+            estimator = new ReliabilityEstimator(currentGen.getSize());
+        }
+        currentGen.setEstimator(null);
+        nextGen.setEstimator(estimator);
+        // Performs most reliable selection method
+        switch (estimator.recommend(currentGen, generation, random)) {
+            case RWS:
+                rouletteWheelSelection(currentGen, nextGen, random);
+                break;
+            case SUS:
+                stochasticUniversalSampling(currentGen, nextGen, random);
+                break;
+            case LRS:
+                linearRankSelection(currentGen, nextGen, random);
+                break;
+            case TOS:
+                tournamentSelection(currentGen, nextGen, random);
+                break;
+            case TRS:
+                truncationSelection(currentGen, nextGen);
+        }
+    }
+
+    /* Survivor Picks; Fill picks[ELITE_SURVIVORS, size / 2) with slots of a sorted population, without copying individuals */
+
+    // Picks survivors of specified method; Sampling scratch is passed in so concurrent trials never share it
+    public static void pickSurvivors(CSMethod method, Population population, int[] picks, CumulativeTable table, SplittableRandom random) {
+        switch (method) {
+            case RWS:
+                rouletteWheelPicks(population, picks, table, random);
+                break;
+            case SUS:
+                stochasticUniversalPicks(population, picks, table, random);
+                break;
+            case LRS:
+                linearRankPicks(population, picks, table, random);
+                break;
+            case TOS:
+                tournamentPicks(population, picks, random);
+                break;
+            case TRS:
+                truncationPicks(population, picks);
+        }
+    }
+
+    // Each pick is a binary search of the prefix sums
+    public static void rouletteWheelPicks(Population population, int[] picks, CumulativeTable table, SplittableRandom random) {
+        double totalFitness = 0;
+        double maxMinSum = population.getCost(0) + population.getCost(population.getSize() - 1);
+        table.clear();
+        for (int j = 0; j < population.getSize(); j++) {
+            totalFitness += population.getCost(j);
+            table.add(maxMinSum - population.getCost(j));
+        }
+        // Draws are scaled by the cost sum, not the weight sum, so a draw past the last weight picks the last individual
+        for (int i = Constants.ELITE_SURVIVORS; i < population.getSize() / 2; i++) {
+            picks[i] = population.getSlot(table.search(random.nextDouble() * totalFitness));
+        }
+    }
+
+    // Evenly spaced pointers walk the prefix sums
+    public static void stochasticUniversalPicks(Population population, int[] picks, CumulativeTable table, SplittableRandom random) {
+        table.clear();
+        for (int j = 0; j < population.getSize(); j++) {
+            table.add(population.getCost(j));
+        }
+        double avgCost = table.getTotal() / population.getSize();
+        double delta = random.nextDouble() * avgCost;
+        int i = Constants.ELITE_SURVIVORS;
+        int j = 0;
+        // Pointer advances by the cumulative sum at each pick and restarts once it passes the last individual
+        do {
+            j = table.searchAbove(delta, j);
+            if (j < population.getSize()) {
+                picks[i] = population.getSlot(j);
+                delta += table.getPrefix(j);
+                i++;
+            } else {
+                delta = random.nextDouble() * avgCost;
+                j = 0;
+            }
+        } while (i < population.getSize() / 2);
+    }
+
+    // Each pick is a binary search of the rank weights
+    public static void linearRankPicks(Population population, int[] picks, CumulativeTable table, SplittableRandom random) {
+        int size = population.getSize();
+        double missed = 1;
+        table.clear();
+        // Rank j is reached when every better rank was passed over; It is then taken with probability 1 - c_j,
+        // where c_j = (n - j)(n - 2.001) / (n (n - 1)) clamped to [0, 1]
+        for (int j = 0; j < size; j++) {
+            double pass = Math.min(1, Math.max(0, (size - j) * (size - 2.001) / (size * (size - 1.0))));
+            table.add(missed * (1 - pass));
+            missed *= pass;
+        }
+        // A sweep that selects nobody is retried, so each pick follows the normalised distribution
+        for (int i = Constants.ELITE_SURVIVORS; i < size / 2; i++) {
+            picks[i] = population.getSlot(table.search(random.nextDouble() * table.getTotal()));
+        }
+    }
+
+    // One pass runs every tournament of the generation on the primitive cost array of the population's slots
+    public static void tournamentPicks(Population population, int[] picks, SplittableRandom random) {
+        double[] costs = population.getStore().getCosts();
+        int size = population.getSize();
+        for (int i = Constants.ELITE_SURVIVORS; i < size / 2; i++) {
+            int winner = random.nextInt(size);
+            double winnerCost = costs[winner];
+            for (int j = 1; j < Constants.TOURNAMENT_SIZE; j++) {
+                int contestant = random.nextInt(size);
+                if (winnerCost > costs[contestant]) {
+                    winner = contestant;
+                    winnerCost = costs[contestant];
+                }
+            }
+            picks[i] = winner;
+        }
+    }
+
+    // Picks the fittest individuals after the elites
+    public static void truncationPicks(Population population, int[] picks) {
+        for (int i = Constants.ELITE_SURVIVORS; i < population.getSize() / 2; i++) {
+            picks[i] = population.getSlot(i);
+        }
+    }
+
+    /* Crossover Operators (1-Point, K-Point, and Intelligent) */
+
+    // Swaps genes of parents over one crossover point; Overwrites the 2 given offspring
+    public static void onePointCrossover(Individual parent1, Individual parent2, Individual offspring1, Individual offspring2, SplittableRandom random) {
+        Individual[] offspring = {offspring1, offspring2};
+        offspring[0].reset(parent2.getLength());
+        offspring[1].reset(parent1.getLength());
+        int crossoverPoint = (int) (random.nextDouble() * (Math.min(parent1.getLength(), parent2.getLength()) - 3)) + 2;
+        for (int i = 0; i < crossoverPoint; i++) {
+            offspring[0].changeNode(i, parent1.getX(i), parent1.getY(i));
+            offspring[1].changeNode(i, parent2.getX(i), parent2.getY(i));
+        }
+        for (int i = crossoverPoint; i < offspring[0].getLength(); i++) {
+            offspring[0].changeNode(i, parent2.getX(i), parent2.getY(i));
+        }
+        for (int i = crossoverPoint; i < offspring[1].getLength(); i++) {
+            offspring[1].changeNode(i, parent1.getX(i), parent1.getY(i));
+        }
+    }
+
+    // Swaps genes of parents over a random number of crossover points; Overwrites the 2 given offspring
+    public static void kPointCrossover(Individual parent1, Individual parent2, Individual offspring1, Individual offspring2, SplittableRandom random) {
+        Individual[] offspring = {offspring1, offspring2};
+        offspring[0].reset(parent2.getLength());
+        offspring[1].reset(parent1.getLength());
+        int[] crossoverPoints = new int[(int) (random.nextDouble() * (Math.min(parent1.getLength(), parent2.getLength()) - 3)) + 1];
+        // Creates an array of random crossover points
+        for (int i = 0; i < crossoverPoints.length; i++) {
+            boolean uniqueOccurrence;
+            do {
+                uniqueOccurrence = true;
+                crossoverPoints[i] = (int) (random.nextDouble() * (Math.min(parent1.getLength(), parent2.getLength()) - 3)) + 2;
+                for (int j = 0; j < i; j++) {
+                    if (crossoverPoints[i] == crossoverPoints[j]) {
+                        uniqueOccurrence = false;
+                    }
+                }
+            } while (!uniqueOccurrence);
+        }
+        Arrays.sort(crossoverPoints);
+        for (int i = 0; i < crossoverPoints[0]; i++) {
+            offspring[0].changeNode(i, parent1.getX(i), parent1.getY(i));
+            offspring[1].changeNode(i, parent2.getX(i), parent2.getY(i));
+        }
+        for (int i = 0; i < 2; i++) {
+            for (int j = i; j < crossoverPoints.length - 1; j += 2) {
+                for (int k = crossoverPoints[j]; k < crossoverPoints[j + 1]; k++) {
+                    offspring[0].changeNode(k, parent2.getX(k), parent2.getY(k));
+                    offspring[1].changeNode(k, parent1.getX(k), parent1.getY(k));
+                }
+            }
+        }
+        for (int i = crossoverPoints[crossoverPoints.length - 1]; i < offspring[0].getLength(); i++) {
+            offspring[0].changeNode(i, parent2.getX(i), parent2.getY(i));
+        }
+        for (int i = crossoverPoints[crossoverPoints.length - 1]; i < offspring[1].getLength(); i++) {
+            offspring[1].changeNode(i, parent1.getX(i), parent1.getY(i));
+        }
+    }
+
+    // Performs intelligent crossover; Overwrites the given offspring
+    public static void intelligentCrossover(Individual parent1, Individual parent2, Individual offspring) {
+        boolean parent1Selected = false;
+        int i = 0;
+        offspring.clear();
+        do {
+            if (i < Math.min(parent1.getLength(), parent2.getLength()) - 1 && Point2D.distance(parent1.getX(i), parent1.getY(i), parent2.getX(i), parent2.getY(i)) < 2) {
+                boolean p1IsFeasible = parent1.isFeasible();
+                boolean p2IsFeasible = parent2.isFeasible();
+                if (p1IsFeasible == p2IsFeasible && Constants.GOAL_NODE.distance(parent1.getX(i + 1), parent1.getY(i + 1))
+                        < Constants.GOAL_NODE.distance(parent2.getX(i + 1), parent2.getY(i + 1)) + Constants.FLOAT_THRESHOLD) {
+                    offspring.addNode(i, parent1.getX(i), parent1.getY(i));
+                    parent1Selected = true;
+                } else if (p1IsFeasible == p2IsFeasible) {
+                    offspring.addNode(i, parent2.getX(i), parent2.getY(i));
+                    parent1Selected = false;
+                } else if (p1IsFeasible) {
+                    offspring.addNode(i, parent1.getX(i), parent1.getY(i));
+                    parent1Selected = true;
+                } else {
+                    offspring.addNode(i, parent2.getX(i), parent2.getY(i));
+                    parent1Selected = false;
+                }
+            } else if (parent1Selected) {
+                offspring.addNode(parent1.getX(i), parent1.getY(i));
+            } else {
+                offspring.addNode(parent2.getX(i), parent2.getY(i));
+            }
+            i++;
+        } while (offspring.getX(i - 1) != Constants.GOAL_NODE.getX()
+                || offspring.getY(i - 1) != Constants.GOAL_NODE.getY());
+    }
+}
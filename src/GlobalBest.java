@@ -0,0 +1,50 @@
+public class GlobalBest {
+
+    private final Individual best = new Individual();           // Copy of the fittest individual found by any island
+    private volatile double bestCost = Double.POSITIVE_INFINITY;
+    private volatile boolean failed;                            // Set once an island can no longer contribute to the run
+
+    /* Important Functions */
+
+    // Records individual if it beats the best so far; Worse individuals are rejected without locking
+    public void offer(Individual indiv) {
+        if (indiv.getCost() >= bestCost)
+            return;
+
+        synchronized (this) {
+            if (indiv.getCost() < bestCost) {
+                best.copyFrom(indiv);
+                bestCost = indiv.getCost();
+                notifyAll();
+            }
+        }
+    }
+
+    // Blocks until the best so far costs less than specified cost or the run failed; Returns a copy of the best so far
+    public synchronized Individual awaitImprovement(double cost) throws InterruptedException {
+        while (bestCost >= cost && !failed)
+            wait();
+
+        return best.clone();
+    }
+
+    // Marks run as failed; Wakes every thread waiting for an improvement
+    public synchronized void fail() {
+        failed = true;
+        notifyAll();
+    }
+
+    /* Getters */
+
+    public boolean hasFailed() {
+        return failed;
+    }
+
+    public double getCost() {
+        return bestCost;
+    }
+
+    public synchronized Individual getBest() {
+        return best.clone();
+    }
+}
@@ -0,0 +1,201 @@
+import java.awt.geom.Point2D;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+public class GridSeeder {
+
+    private static final double DIAGONAL = Math.sqrt(2);
+
+    private final OccupancyBitmap grid;     // Coarse cells an obstacle boundary passes through
+    private final int columns;
+    private final int rows;
+    private final double cellSize;
+    private final double[] distance;        // Distance from the start cell along the best known cell path
+    private final int[] previous;           // Cell before each cell on its best known path
+    private final boolean[] closed;
+    private final int[] heap;               // Open cells ordered by priority; A cell is pushed again when its distance drops
+    private final double[] priority;        // Estimated route length through each heap entry; Slightly randomized
+    private int heapSize;
+    private boolean unreachable;            // Set once a search fails; Tie-breaking cannot open a disconnected grid
+
+    // GridSeeder Constructor; Rasterizes obstacle boundaries at specified cell size
+    GridSeeder(double cellSize) {
+        this.cellSize = cellSize;
+        grid = new OccupancyBitmap(Constants.EDGES, Constants.EDGES, cellSize);
+        columns = grid.getColumns();
+        rows = grid.getRows();
+        distance = new double[rows * columns];
+        previous = new int[rows * columns];
+        closed = new boolean[rows * columns];
+        heap = new int[9 * rows * columns];
+        priority = new double[9 * rows * columns];
+    }
+
+    /* Important Functions */
+
+    // Finds a feasible route from start to goal and appends its interior waypoints; Returns false if no route fits
+    // between the chromosome length limits
+    public boolean route(ArrayList<Point2D> route, SplittableRandom random) {
+        int start = cell(0, 0);
+        int goal = cell(Constants.GOAL_NODE.getX(), Constants.GOAL_NODE.getY());
+
+        if (unreachable || !search(start, goal, random)) {
+            unreachable = true;
+            return false;
+        }
+
+        // Cell path from goal back to start, each waypoint jittered inside its cell
+        ArrayList<Point2D> points = new ArrayList<Point2D>();
+        points.add(new Point2D.Double(Constants.GOAL_NODE.getX(), Constants.GOAL_NODE.getY()));
+
+        for (int c = previous[goal]; c != start && c >= 0; c = previous[c]) {
+            double jitter = Constants.SEED_GRID_JITTER * cellSize;
+            points.add(new Point2D.Double(((c % columns) + 0.5) * cellSize + (random.nextDouble() - 0.5) * jitter,
+                    ((c / columns) + 0.5) * cellSize + (random.nextDouble() - 0.5) * jitter));
+        }
+
+        points.add(new Point2D.Double(0, 0));
+        return downsample(points, route);
+    }
+
+    // A* over 8-connected free cells; Near-equal priorities are broken at random so repeated searches differ
+    private boolean search(int start, int goal, SplittableRandom random) {
+        if (isBlocked(start) || isBlocked(goal))
+            return false;
+
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        Arrays.fill(closed, false);
+        heapSize = 0;
+        distance[start] = 0;
+        previous[start] = -1;
+        push(start, estimate(start, goal, random));
+
+        while (heapSize > 0) {
+            int c = pop();
+
+            if (closed[c])
+                continue;
+            if (c == goal)
+                return true;
+
+            closed[c] = true;
+
+            for (int dr = -1; dr <= 1; dr++) {
+                for (int dc = -1; dc <= 1; dc++) {
+                    int row = c / columns + dr;
+                    int column = c % columns + dc;
+
+                    if ((dr == 0 && dc == 0) || row < 0 || row >= rows || column < 0 || column >= columns)
+                        continue;
+
+                    int next = row * columns + column;
+
+                    // Diagonal steps may not cut the corner of an occupied cell
+                    if (isBlocked(next) || closed[next] || (dr != 0 && dc != 0
+                            && (isBlocked(c + dr * columns) || isBlocked(c + dc))))
+                        continue;
+
+                    double d = distance[c] + ((dr != 0 && dc != 0) ? DIAGONAL : 1) * cellSize;
+
+                    if (d < distance[next]) {
+                        distance[next] = d;
+                        previous[next] = c;
+                        push(next, d + estimate(next, goal, random));
+                    }
+                }
+            }
+        }
+
+        return false;
+    }
+
+    // Octile distance to goal plus a perturbation far below one step
+    private double estimate(int c, int goal, SplittableRandom random) {
+        int dr = Math.abs(c / columns - goal / columns);
+        int dc = Math.abs(c % columns - goal % columns);
+        double octile = (Math.max(dr, dc) + (DIAGONAL - 1) * Math.min(dr, dc)) * cellSize;
+        return octile + random.nextDouble() * cellSize * 1e-6;
+    }
+
+    // Keeps the waypoints of a greedy line-of-sight walk from start over points (given goal first); Returns false
+    // if the walk needs more waypoints than a chromosome can hold
+    private boolean downsample(ArrayList<Point2D> points, ArrayList<Point2D> route) {
+        int first = route.size();
+        int i = points.size() - 1;
+
+        while (i > 0) {
+            int j = 0;
+
+            while (j < i - 1 && Constants.EDGE_INDEX.intersects(points.get(i).getX(), points.get(i).getY(),
+                    points.get(j).getX(), points.get(j).getY()))
+                j++;
+
+            if (j == i - 1 && Constants.EDGE_INDEX.intersects(points.get(i).getX(), points.get(i).getY(),
+                    points.get(j).getX(), points.get(j).getY()))
+                return false;
+
+            if (j > 0)
+                route.add(points.get(j));
+
+            i = j;
+        }
+
+        if (route.size() - first > Constants.MAX_CHROMOSOME_LENGTH - 2) {
+            route.subList(first, route.size()).clear();
+            return false;
+        }
+
+        return true;
+    }
+
+    private void push(int c, double key) {
+        int i = heapSize++;
+
+        while (i > 0 && priority[(i - 1) / 2] > key) {
+            heap[i] = heap[(i - 1) / 2];
+            priority[i] = priority[(i - 1) / 2];
+            i = (i - 1) / 2;
+        }
+
+        heap[i] = c;
+        priority[i] = key;
+    }
+
+    // Removes open cell of lowest priority; Stale entries are skipped by the caller once the cell is closed
+    private int pop() {
+        int top = heap[0];
+        int last = heap[--heapSize];
+        double lastKey = priority[heapSize];
+        int i = 0;
+
+        while (2 * i + 1 < heapSize) {
+            int child = 2 * i + 1;
+
+            if (child + 1 < heapSize && priority[child + 1] < priority[child])
+                child++;
+            if (priority[child] >= lastKey)
+                break;
+
+            heap[i] = heap[child];
+            priority[i] = priority[child];
+            i = child;
+        }
+
+        heap[i] = last;
+        priority[i] = lastKey;
+        return top;
+    }
+
+    private boolean isBlocked(int c) {
+        return grid.isOccupied(c / columns, c % columns);
+    }
+
+    // Cell of point; Points outside the field fall into border cells
+    private int cell(double x, double y) {
+        int column = Math.min(columns - 1, Math.max(0, (int) (x / cellSize)));
+        int row = Math.min(rows - 1, Math.max(0, (int) (y / cellSize)));
+        return row * columns + column;
+    }
+}
@@ -1,454 +1,762 @@
-
-import java.awt.Color;
-import java.awt.Graphics2D;
-import java.awt.geom.Line2D;
-import java.awt.geom.Point2D;
-
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Set;
-
-import java.text.DecimalFormat;
-
-public class Individual {
-
-    private ArrayList<Point2D> chromosome = new ArrayList<Point2D>();
-    private double cost = 0;
-
-    // Individual Constructor
-    Individual() { }
-
-    Individual(boolean initialize, int length) {
-        chromosome.add(new Point2D.Double(0, 0));
-
-        // Initializes Individual with randomly generated coordinates
-        if (initialize) {
-            for (int i = 1; i < length - 1; i++)
-                chromosome.add(new Point2D.Double(Math.random() * Constants.MAX_X_VALUE, Math.random() * Constants.MAX_Y_VALUE));
-        } else {
-            for (int i = 1; i < length - 1; i++)
-                chromosome.add(new Point2D.Double());
-        }
-
-        chromosome.add(Constants.GOAL_NODE);
-
-        cost();
-    }
-
-    /* Important Functions */
-
-    public Individual clone() {
-        Individual clone = new Individual();
-
-        for (Point2D coord : chromosome)
-            clone.addNode(new Point2D.Double(coord.getX(), coord.getY()));
-
-        return clone;
-    }
-
-    // Determines whether individual is feasible (i.e. doesn't hit obstacles)
-    public boolean isFeasible() {
-        for (Obstacle obstacle : Constants.OBSTACLES) {
-            ArrayList<Line2D> boundaries = obstacle.getBoundaries();
-
-            for (Line2D boundary : boundaries) {
-                for (int i = 0; i < chromosome.size() - 1; i++) {
-                    if (getPath(i).intersectsLine(boundary))
-                        return false;
-                }
-            }
-        }
-
-        return true;
-    }
-
-    // Updates cost of individual
-    private double cost() {
-        if (isFeasible())
-            cost = distanceTraveled();
-        else
-            cost = distanceTraveled() + Constants.PENALTY_FACTOR * (collisionDist() + 1);
-
-        return cost;
-    }
-
-    // Calculates total distance traveled
-    public double distanceTraveled() {
-        double distance = 0;
-
-        for (int i = 0; i < chromosome.size() - 1; i++)
-            distance += chromosome.get(i).distance(chromosome.get(i + 1));
-
-        return distance;
-    }
-
-    // Determines points of collision between individual and obstacles
-    public Map<Integer, ArrayList<Point2D>> detectCollisions() {
-        Map<Integer, ArrayList<Point2D>> collisions = new HashMap<Integer, ArrayList<Point2D>>();
-
-        for (int i = 0; i < chromosome.size() - 1; i++) {
-            ArrayList<Point2D> collisionsInPath = detectPathCollisions(i);
-
-            if (i != 0 && collisions.get(i - 1) != null) {
-                for (Point2D previous : collisions.get(i - 1)) {
-                    for (int j = 0; j < collisionsInPath.size(); j++) {
-                        if (Math.abs(previous.getX() - collisionsInPath.get(j).getX()) < Constants.FLOAT_THRESHOLD
-                                && Math.abs(previous.getY() - collisionsInPath.get(j).getY()) < Constants.FLOAT_THRESHOLD) {
-                            collisionsInPath.remove(j);
-                            break;
-                        }
-                    }
-                }
-            }
-
-            if (collisionsInPath.size() != 0)
-                collisions.put(i, collisionsInPath);
-        }
-
-        return collisions;
-    }
-
-    // Determines points of collision between specific path and obstacles
-    private ArrayList<Point2D> detectPathCollisions(int pathIndex) {
-        ArrayList<Point2D> collisionsInPath = new ArrayList<Point2D>();
-
-        for (Obstacle obstacle : Constants.OBSTACLES) {
-            ArrayList<Line2D> boundaries = obstacle.getBoundaries();
-
-            for (Line2D boundary : boundaries) {
-                if (getPath(pathIndex).intersectsLine(boundary)) {
-                    Line2D path = getPath(pathIndex);
-
-                    // Line AB represented as a1x + b1y = c1
-                    double a1 = path.getY2() - path.getY1();
-                    double b1 = path.getX1() - path.getX2();
-                    double c1 = a1 * path.getX1() + b1 * path.getY1();
-
-                    // Line CD represented as a2x + b2y = c2
-                    double a2 = boundary.getY2() - boundary.getY1();
-                    double b2 = boundary.getX1() - boundary.getX2();
-                    double c2 = a2 * boundary.getX1() + b2 * boundary.getY1();
-
-                    double determinant = a1 * b2 - a2 * b1;
-
-                    if (determinant != 0) {
-                        double xIntersect = (b2 * c1 - b1 * c2) / determinant;
-                        double yIntersect = (a1 * c2 - a2 * c1) / determinant;
-                        boolean uniqueOccurrence = true;
-
-                        for (Point2D collision : collisionsInPath) {
-                            if (Math.abs(collision.getX() - xIntersect) < Constants.FLOAT_THRESHOLD
-                                    && Math.abs(collision.getY() - yIntersect) < Constants.FLOAT_THRESHOLD) {
-                                uniqueOccurrence = false;
-                                break;
-                            }
-                        }
-
-                        if (uniqueOccurrence)
-                            collisionsInPath.add(new Point2D.Double(xIntersect, yIntersect));
-                    }
-                }
-            }
-        }
-
-        return collisionsInPath;
-    }
-
-    // Calculates total distance traveled through obstacles
-    public double collisionDist() {
-        Map<Integer, ArrayList<Point2D>> collisionMap = detectCollisions();
-        Set<Map.Entry<Integer, ArrayList<Point2D>>> collisionSet = collisionMap.entrySet();
-        int offset = 0;
-        int prevCollisionPath = 0;
-        double collisionDist = 0;
-        boolean isInObstacle = false;
-
-        // Iterates through each Path-Collision Points Map
-        for (Map.Entry<Integer, ArrayList<Point2D>> collidedPath : collisionSet) {
-            ArrayList<Point2D> collisionPoints = collidedPath.getValue();
-
-            // If node is in obstacle, then add remaining collision distance
-            if (isInObstacle) {
-                for (int i = prevCollisionPath; i < collidedPath.getKey(); i++)
-                    collisionDist += chromosome.get(i).distance(chromosome.get(i + 1));
-
-                collisionDist += chromosome.get(collidedPath.getKey()).distance(collisionPoints.get(0));
-            }
-
-            // Adds to collision distance for one path
-            for (int i = offset; i < collisionPoints.size() - 1; i += 2)
-                collisionDist += collisionPoints.get(i).distance(collisionPoints.get(i + 1));
-
-            // If node is in obstacle, then add distance from intersection to node
-            if ((collidedPath.getValue().size() - offset) % 2 == 1) {
-                isInObstacle = true;
-                collisionDist += collisionPoints.get(collisionPoints.size() - 1).distance(chromosome.get(collidedPath.getKey() + 1));
-                offset = 1;
-            } else {
-                isInObstacle = false;
-                offset = 0;
-            }
-
-            // Get index of this collision path; Used if isInObstacle == true
-            prevCollisionPath = collidedPath.getKey() + 1;
-        }
-
-        return collisionDist;
-    }
-
-    // Draws environment with obstacles
-    private void drawEnvironment(DrawingPanel panel, Graphics2D g) {
-        panel.clear();
-        g.setColor(Color.BLACK);
-
-        for (Obstacle obstacle : Constants.OBSTACLES)
-            obstacle.drawObstacle(panel, g);
-    }
-
-    // Draws path of individual on the environment
-    public void drawIndividual(DrawingPanel panel, Graphics2D g) {
-        DecimalFormat df = new DecimalFormat("000.000");
-
-        drawEnvironment(panel, g);
-        g.setColor(Color.BLUE);
-
-        for (int i = 0; i < chromosome.size() - 1; i++) {
-            g.fillOval((int) (chromosome.get(i).getX() * Constants.X_SCALE) + (Constants.MARGIN_THICKNESS - Constants.POINT_RADIUS + 1) / 2,
-                    (int) (-chromosome.get(i).getY() * Constants.Y_SCALE + Constants.PANEL_HEIGHT) + (Constants.MARGIN_THICKNESS - Constants.POINT_RADIUS + 1) / 2,
-                    Constants.POINT_RADIUS, Constants.POINT_RADIUS);
-
-            g.drawLine((int) (chromosome.get(i).getX() * Constants.X_SCALE) + Constants.MARGIN_THICKNESS / 2,
-                    (int) (-chromosome.get(i).getY() * Constants.Y_SCALE + Constants.PANEL_HEIGHT) + Constants.MARGIN_THICKNESS / 2,
-                    (int) (chromosome.get(i + 1).getX() * Constants.X_SCALE) + Constants.MARGIN_THICKNESS / 2,
-                    (int) (-chromosome.get(i + 1).getY() * Constants.Y_SCALE + Constants.PANEL_HEIGHT) + Constants.MARGIN_THICKNESS / 2);
-        }
-
-        g.fillOval((int) (chromosome.get(chromosome.size() - 1).getX() * Constants.X_SCALE) + (Constants.MARGIN_THICKNESS - Constants.POINT_RADIUS + 1) / 2,
-                (int) (-chromosome.get(chromosome.size() - 1).getY() * Constants.Y_SCALE + Constants.PANEL_HEIGHT) + (Constants.MARGIN_THICKNESS - Constants.POINT_RADIUS + 1) / 2,
-                Constants.POINT_RADIUS, Constants.POINT_RADIUS);
-
-        g.setColor(Color.BLACK);
-        g.drawString("Fitness: " + df.format(cost), Constants.PANEL_LENGTH - 150 + Constants.MARGIN_THICKNESS / 2,
-                Constants.PANEL_HEIGHT - 25 + Constants.MARGIN_THICKNESS / 2);
-
-        String status;
-
-        if (isFeasible())
-            status = "Feasible";
-        else
-            status = "Infeasible";
-
-        g.drawString("Feasibility: " + status, Constants.PANEL_LENGTH - 150 + Constants.MARGIN_THICKNESS / 2, Constants.PANEL_HEIGHT - 10 + Constants.MARGIN_THICKNESS / 2);
-        g.drawString("Chromosome Length: " + chromosome.size(), Constants.PANEL_LENGTH - 150 + Constants.MARGIN_THICKNESS / 2,
-                Constants.PANEL_HEIGHT + 5 + Constants.MARGIN_THICKNESS / 2);
-
-        highlightCollision(panel, g);
-    }
-
-    // Highlights collision areas on individual's path
-    private void highlightCollision(DrawingPanel panel, Graphics2D g) {
-        Map<Integer, ArrayList<Point2D>> collisionMap = detectCollisions();
-        Set<Map.Entry<Integer, ArrayList<Point2D>>> collisionSet = collisionMap.entrySet();
-        int offset = 0;
-        int prevCollisionPath = 0;
-        boolean isInObstacle = false;
-
-        g.setColor(Color.RED);
-
-        // Iterates through each Path-Collision Points Map
-        for (Map.Entry<Integer, ArrayList<Point2D>> collidedPath : collisionSet) {
-            ArrayList<Point2D> collisionPoints = collidedPath.getValue();
-
-            // If node is in obstacle, then highlight collision areas
-            if (isInObstacle) {
-                for (int i = prevCollisionPath; i < collidedPath.getKey(); i++) {
-                    g.drawLine((int) (chromosome.get(i).getX() * Constants.X_SCALE) + Constants.MARGIN_THICKNESS / 2,
-                            (int) (-chromosome.get(i).getY() * Constants.Y_SCALE + Constants.PANEL_HEIGHT) + Constants.MARGIN_THICKNESS / 2,
-                            (int) (chromosome.get(i + 1).getX() * Constants.X_SCALE) + Constants.MARGIN_THICKNESS / 2,
-                            (int) (-chromosome.get(i + 1).getY() * Constants.Y_SCALE + Constants.PANEL_HEIGHT) + Constants.MARGIN_THICKNESS / 2);
-                }
-
-                g.drawLine((int) (chromosome.get(collidedPath.getKey()).getX() * Constants.X_SCALE) + Constants.MARGIN_THICKNESS / 2,
-                        (int) (-chromosome.get(collidedPath.getKey()).getY() * Constants.Y_SCALE + Constants.PANEL_HEIGHT) + Constants.MARGIN_THICKNESS / 2,
-                        (int) (collisionPoints.get(0).getX() * Constants.X_SCALE) + Constants.MARGIN_THICKNESS / 2,
-                        (int) (-collisionPoints.get(0).getY() * Constants.Y_SCALE + Constants.PANEL_HEIGHT) + Constants.MARGIN_THICKNESS / 2);
-            }
-
-            // Highlights collision areas
-            for (int i = offset; i < collisionPoints.size() - 1; i += 2) {
-                g.drawLine((int) (collisionPoints.get(i).getX() * Constants.X_SCALE) + Constants.MARGIN_THICKNESS / 2,
-                        (int) (-collisionPoints.get(i).getY() * Constants.Y_SCALE + Constants.PANEL_HEIGHT) + Constants.MARGIN_THICKNESS / 2,
-                        (int) (collisionPoints.get(i + 1).getX() * Constants.X_SCALE) + Constants.MARGIN_THICKNESS / 2,
-                        (int) (-collisionPoints.get(i + 1).getY() * Constants.Y_SCALE + Constants.PANEL_HEIGHT) + Constants.MARGIN_THICKNESS / 2);
-            }
-
-            // If node is in obstacle, then highlight collision area from intersection to node
-            if ((collidedPath.getValue().size() - offset) % 2 == 1) {
-                isInObstacle = true;
-                g.drawLine((int) (collisionPoints.get(collisionPoints.size() - 1).getX() * Constants.X_SCALE) + Constants.MARGIN_THICKNESS / 2,
-                        (int) (-collisionPoints.get(collisionPoints.size() - 1).getY() * Constants.Y_SCALE + Constants.PANEL_HEIGHT) + Constants.MARGIN_THICKNESS / 2,
-                        (int) (chromosome.get(collidedPath.getKey() + 1).getX() * Constants.X_SCALE) + Constants.MARGIN_THICKNESS / 2,
-                        (int) (-chromosome.get(collidedPath.getKey() + 1).getY() * Constants.Y_SCALE + Constants.PANEL_HEIGHT) + Constants.MARGIN_THICKNESS / 2);
-                offset = 1;
-            } else {
-                isInObstacle = false;
-                offset = 0;
-            }
-
-            // Get index of this collision path; Used if isInObstacle == true
-            prevCollisionPath = collidedPath.getKey() + 1;
-        }
-    }
-
-    public String toString() {
-        DecimalFormat df = new DecimalFormat("000.00");
-        String stringObstacle = "{(" + df.format(chromosome.get(0).getX()) + ", " + df.format(chromosome.get(0).getY()) + ")";
-
-        for (int i = 1; i < chromosome.size(); i++)
-            stringObstacle += ", (" + df.format(chromosome.get(i).getX()) + ", " + df.format(chromosome.get(i).getY()) + ")";
-
-        stringObstacle += "}";
-
-        return stringObstacle;
-    }
-
-    // Mutation Operators (Add/Delete/Change Node and Shorten/Correct the Path)
-
-    // Mutates individual
-    public void mutate() {
-        MutationOperator[] mutations = MutationOperator.values();
-
-        // Performs random mutation
-        switch (mutations[(int) (Math.random() * mutations.length)]) {
-            case ADD:
-                if (chromosome.size() != Constants.MAX_CHROMOSOME_LENGTH) {
-                    chromosome.add((int) (Math.random() * (chromosome.size() - 2)) + 1,
-                            new Point2D.Double(Math.random() * Constants.MAX_X_VALUE, Math.random() * Constants.MAX_Y_VALUE));
-                    break;
-                }
-            case DELETE:
-                if (chromosome.size() != Constants.MIN_CHROMOSOME_LENGTH) {
-                    chromosome.remove((int) (Math.random() * (chromosome.size() - 2)) + 1);
-                    break;
-                }
-            case CHANGE:
-                chromosome.set((int) (Math.random() * (chromosome.size() - 2)) + 1,
-                        new Point2D.Double(Math.random() * Constants.MAX_X_VALUE, Math.random() * Constants.MAX_Y_VALUE));
-                break;
-            case SHORTEN:
-                shortenPath();
-                break;
-			/* case CORRECT:
-				correctPath();
-				break; */
-            default:
-                chromosome.set((int) (Math.random() * (chromosome.size() - 2)) + 1,
-                        new Point2D.Double(Math.random() * Constants.MAX_X_VALUE, Math.random() * Constants.MAX_Y_VALUE));
-        }
-
-        cost();
-    }
-
-    public void addNode(int index, double x, double y) {
-        chromosome.add(index, new Point2D.Double(x, y));
-        cost();
-    }
-
-    public void addNode(int index, Point2D coord) {
-        chromosome.add(index, new Point2D.Double(coord.getX(), coord.getY()));
-        cost();
-    }
-
-    public void addNode(double x, double y) {
-        chromosome.add(new Point2D.Double(x, y));
-        cost();
-    }
-
-    public void addNode(Point2D coord) {
-        chromosome.add(new Point2D.Double(coord.getX(), coord.getY()));
-        cost();
-    }
-
-    public void deleteNode(int index) {
-        chromosome.remove(index);
-        cost();
-    }
-
-    public void changeNode(int index, double x, double y) {
-        chromosome.set(index, new Point2D.Double(x, y));
-        cost();
-    }
-
-    public void changeNode(int index, Point2D coord) {
-        chromosome.set(index, new Point2D.Double(coord.getX(), coord.getY()));
-        cost();
-    }
-
-    // Removes unnecessary coordinates in individual
-    public void shortenPath() {
-        boolean isShortest;
-
-        do {
-            isShortest = true;
-
-            for (int i = 0; i < chromosome.size() - 2; i++) {
-                if (detectPathCollisions(i).size() == 0 && detectPathCollisions(i + 1).size() == 0
-                        && chromosome.size() > Constants.MIN_CHROMOSOME_LENGTH) {
-                    chromosome.remove(i + 1);
-                    isShortest = false;
-                }
-            }
-        } while (!isShortest);
-
-        cost();
-    }
-	
-	/* public void correctPath() {
-		for (int i = 1; i < chromosome.size() - 1; i++) {
-			boolean intersects = false;
-			double x;
-			double y;
-			
-			do {
-				x = Math.random() * Constants.GOAL_NODE.getX();
-				y = Math.random() * Constants.GOAL_NODE.getY();
-				
-				Line2D path = new Line2D.Double(new Point2D.Double(x, y), chromosome.get(i + 1));
-				
-				for (Obstacle obstacle : Constants.OBSTACLES) {
-					if (obstacle.intersects(path)) {
-						intersects = true;
-						break;
-					}
-				}
-			} while (intersects);
-			
-			chromosome.set(i, new Point2D.Double(x, y));
-		}
-		
-		cost();
-	} */
-
-    /* Getters */
-
-    public ArrayList<Point2D> getChromosome() {
-        return chromosome;
-    }
-
-    public double getCost() {
-        return cost;
-    }
-
-    public Point2D getNode(int index) {
-        return chromosome.get(index);
-    }
-
-    public Line2D getPath(int index) {
-        return new Line2D.Double(chromosome.get(index), chromosome.get(index + 1));
-    }
-
-    public int getLength() {
-        return chromosome.size();
-    }
-}
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.geom.Line2D;
+import java.awt.geom.Point2D;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.AbstractList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import java.text.DecimalFormat;
+
+public class Individual {
+
+    // REPAIR is the last operator, so it can be left out without changing how the others are drawn
+    private static final MutationOperator[] MUTATIONS = Constants.REPAIR_MUTATION ? MutationOperator.values()
+            : Arrays.copyOf(MutationOperator.values(), MutationOperator.values().length - 1);
+
+    // Chromosome and cost live in a slot of a shared store; Standalone individuals own a single-slot store
+    private final ChromosomeStore store;
+    private final int slot;
+    private double distance = 0;
+    private double collisionDistance = 0;
+    private boolean feasible = true;
+    private boolean evaluated = false;      // Cost is computed lazily after the chromosome changes
+
+    // Individual Constructor
+    Individual() {
+        this(new ChromosomeStore(1, Constants.MAX_CHROMOSOME_LENGTH), 0);
+    }
+
+    Individual(ChromosomeStore store, int slot) {
+        this.store = store;
+        this.slot = slot;
+    }
+
+    Individual(int length, SplittableRandom random) {
+        this();
+        randomize(length, random);
+    }
+
+    /* Important Functions */
+
+    // Empties chromosome so it can be rebuilt node by node
+    public void clear() {
+        store.setLength(slot, 0);
+        evaluated = false;
+    }
+
+    // Resets chromosome to a path from start to goal with specified number of nodes; Interior nodes are placeholders
+    public void reset(int length) {
+        store.setLength(slot, length);
+        store.setNode(slot, 0, 0, 0);
+
+        for (int i = 1; i < length - 1; i++)
+            store.setNode(slot, i, 0, 0);
+
+        store.setNode(slot, length - 1, Constants.GOAL_NODE.getX(), Constants.GOAL_NODE.getY());
+        invalidate();
+    }
+
+    // Resets chromosome to a path from start to goal through randomly generated interior nodes
+    public void randomize(int length, SplittableRandom random) {
+        store.setLength(slot, length);
+        store.setNode(slot, 0, 0, 0);
+
+        for (int i = 1; i < length - 1; i++)
+            store.setNode(slot, i, random.nextDouble() * Constants.MAX_X_VALUE, random.nextDouble() * Constants.MAX_Y_VALUE);
+
+        store.setNode(slot, length - 1, Constants.GOAL_NODE.getX(), Constants.GOAL_NODE.getY());
+        invalidate();
+    }
+
+    // Resets chromosome to a route from start to goal through waypoints; The longest paths are split at their
+    // midpoints until the chromosome reaches the minimum length. Returns false, leaving chromosome untouched, if
+    // the route has too many waypoints
+    public boolean follow(List<Point2D> waypoints) {
+        int length = waypoints.size() + 2;
+
+        if (length > Constants.MAX_CHROMOSOME_LENGTH)
+            return false;
+
+        store.setLength(slot, length);
+        store.setNode(slot, 0, 0, 0);
+
+        for (int i = 0; i < waypoints.size(); i++)
+            store.setNode(slot, i + 1, waypoints.get(i).getX(), waypoints.get(i).getY());
+
+        store.setNode(slot, length - 1, Constants.GOAL_NODE.getX(), Constants.GOAL_NODE.getY());
+
+        while (getLength() < Constants.MIN_CHROMOSOME_LENGTH) {
+            int longest = 0;
+
+            for (int i = 1; i < getLength() - 1; i++) {
+                if (Point2D.distance(getX(i), getY(i), getX(i + 1), getY(i + 1))
+                        > Point2D.distance(getX(longest), getY(longest), getX(longest + 1), getY(longest + 1)))
+                    longest = i;
+            }
+
+            store.insertNode(slot, longest + 1, (getX(longest) + getX(longest + 1)) / 2, (getY(longest) + getY(longest + 1)) / 2);
+        }
+
+        invalidate();
+        return true;
+    }
+
+    // Marks every path as changed after the whole chromosome was rewritten
+    private void invalidate() {
+        evaluated = false;
+
+        for (int i = 0; i < getLength() - 1; i++)
+            invalidatePath(i);
+    }
+
+    public Individual clone() {
+        Individual clone = new Individual();
+        clone.copyFrom(this);
+
+        return clone;
+    }
+
+    // Overwrites this individual with a copy of another; Reuses this individual's storage
+    public void copyFrom(Individual other) {
+        if (other == this)
+            return;
+
+        // Copies cached paths along with the chromosome so copy doesn't repeat intersection tests
+        store.copySlot(other.store, other.slot, slot);
+        evaluated = false;
+    }
+
+    // Determines whether individual is feasible (i.e. doesn't hit obstacles)
+    public boolean isFeasible() {
+        evaluate();
+        return feasible;
+    }
+
+    // Updates cost of individual if chromosome changed since the last evaluation
+    public void evaluate() {
+        if (!evaluated)
+            cost();
+    }
+
+    // Updates cost of individual
+    private double cost() {
+        foldPaths();
+        evaluated = true;
+
+        if (Constants.VERIFY_INCREMENTAL_COST)
+            verifyCost();
+
+        return store.getCost(slot);
+    }
+
+    // Walks chromosome once, re-evaluating only invalidated paths; Collision points of every path are gathered in the
+    // thread's fold buffers, points of path i from collisionStart[i] to collisionStart[i + 1] - 1
+    private void foldPaths() {
+        EvaluationScratch scratch = EvaluationScratch.get();
+        int paths = Math.max(0, getLength() - 1);
+        int offset = 0;
+        int prevCollisionPath = 0;
+        boolean isInObstacle = false;
+
+        scratch.ensureCollisionCapacity(0, paths);
+        int[] collisionStart = scratch.getCollisionStart();
+        distance = 0;
+        collisionDistance = 0;
+        feasible = true;
+
+        for (int i = 0; i < paths; i++) {
+            boolean fresh = !store.isPathValid(slot, i);
+
+            if (fresh)
+                evaluatePath(i);
+
+            int start = collisionStart[i];
+            int end = start + store.getCollisionCount(slot, i);
+
+            distance += store.getPathLength(slot, i);
+
+            if (store.isPathHit(slot, i))
+                feasible = false;
+
+            scratch.ensureCollisionCapacity(end, paths);
+            double[] collisionX = scratch.getCollisionX();
+            double[] collisionY = scratch.getCollisionY();
+
+            // Points of a path evaluated just now are still in the scratch; Paths with more points than are cached
+            // are intersected again
+            if (fresh || !store.copyCollisions(slot, i, collisionX, collisionY, start)) {
+                if (!fresh)
+                    intersect(i, scratch);
+
+                System.arraycopy(scratch.getPointsX(), 0, collisionX, start, end - start);
+                System.arraycopy(scratch.getPointsY(), 0, collisionY, start, end - start);
+            }
+
+            // Removes collision points already found at the end of the previous path
+            if (i != 0) {
+                for (int p = collisionStart[i - 1]; p < start; p++) {
+                    for (int j = start; j < end; j++) {
+                        if (Math.abs(collisionX[p] - collisionX[j]) < Constants.FLOAT_THRESHOLD
+                                && Math.abs(collisionY[p] - collisionY[j]) < Constants.FLOAT_THRESHOLD) {
+                            System.arraycopy(collisionX, j + 1, collisionX, j, end - j - 1);
+                            System.arraycopy(collisionY, j + 1, collisionY, j, end - j - 1);
+                            end--;
+                            break;
+                        }
+                    }
+                }
+            }
+
+            collisionStart[i + 1] = end;
+
+            if (end == start)
+                continue;
+
+            // If node is in obstacle, then add remaining collision distance
+            if (isInObstacle) {
+                for (int j = prevCollisionPath; j < i; j++)
+                    collisionDistance += store.getPathLength(slot, j);
+
+                collisionDistance += Point2D.distance(getX(i), getY(i), collisionX[start], collisionY[start]);
+            }
+
+            // Adds to collision distance for one path
+            for (int j = start + offset; j < end - 1; j += 2)
+                collisionDistance += Point2D.distance(collisionX[j], collisionY[j], collisionX[j + 1], collisionY[j + 1]);
+
+            // If node is in obstacle, then add distance from intersection to node
+            if ((end - start - offset) % 2 == 1) {
+                isInObstacle = true;
+                collisionDistance += Point2D.distance(getX(i + 1), getY(i + 1), collisionX[end - 1], collisionY[end - 1]);
+                offset = 1;
+            } else {
+                isInObstacle = false;
+                offset = 0;
+            }
+
+            // Get index of this collision path; Used if isInObstacle == true
+            prevCollisionPath = i + 1;
+        }
+
+        if (feasible)
+            store.setCost(slot, distance);
+        else
+            store.setCost(slot, distance + Constants.PENALTY_FACTOR * (collisionDistance + 1));
+    }
+
+    // Checks cached cost against a full recomputation of every path
+    private void verifyCost() {
+        double cachedCost = store.getCost(slot);
+        boolean cachedFeasible = feasible;
+
+        for (int i = 0; i < getLength() - 1; i++)
+            invalidatePath(i);
+
+        foldPaths();
+
+        if (Double.compare(cachedCost, store.getCost(slot)) != 0 || cachedFeasible != feasible)
+            throw new IllegalStateException("Cached cost " + cachedCost + " differs from full recomputation " + store.getCost(slot) + " for " + this);
+    }
+
+    // Calculates total distance traveled
+    public double distanceTraveled() {
+        evaluate();
+        return distance;
+    }
+
+    // Determines points of collision between individual and obstacles; Fold buffers belong to the thread, so the
+    // chromosome is folded again to fill them
+    public Map<Integer, ArrayList<Point2D>> detectCollisions() {
+        Map<Integer, ArrayList<Point2D>> collisions = new HashMap<Integer, ArrayList<Point2D>>();
+        EvaluationScratch scratch = EvaluationScratch.get();
+
+        foldPaths();
+        evaluated = true;
+
+        int[] collisionStart = scratch.getCollisionStart();
+        double[] collisionX = scratch.getCollisionX();
+        double[] collisionY = scratch.getCollisionY();
+
+        for (int i = 0; i < getLength() - 1; i++) {
+            if (collisionStart[i + 1] == collisionStart[i])
+                continue;
+
+            ArrayList<Point2D> collisionsInPath = new ArrayList<Point2D>();
+
+            for (int j = collisionStart[i]; j < collisionStart[i + 1]; j++)
+                collisionsInPath.add(new Point2D.Double(collisionX[j], collisionY[j]));
+
+            collisions.put(i, collisionsInPath);
+        }
+
+        return collisions;
+    }
+
+    // Determines whether specific path hits an obstacle; Re-evaluates path if its cache was invalidated
+    private boolean pathHits(int pathIndex) {
+        if (!store.isPathValid(slot, pathIndex))
+            evaluatePath(pathIndex);
+
+        return store.isPathHit(slot, pathIndex);
+    }
+
+    // Number of unique collision points of specific path; Re-evaluates path if its cache was invalidated
+    private int pathCollisionCount(int pathIndex) {
+        if (!store.isPathValid(slot, pathIndex))
+            evaluatePath(pathIndex);
+
+        return store.getCollisionCount(slot, pathIndex);
+    }
+
+    // Caches length, intersection and unique collision points of specific path; The points are left in the scratch
+    private void evaluatePath(int pathIndex) {
+        EvaluationScratch scratch = EvaluationScratch.get();
+        boolean hit = intersect(pathIndex, scratch);
+
+        store.setPath(slot, pathIndex, Point2D.distance(getX(pathIndex), getY(pathIndex), getX(pathIndex + 1), getY(pathIndex + 1)),
+                hit, scratch.getPointCount(), scratch.getPointsX(), scratch.getPointsY());
+    }
+
+    // Gathers unique collision points of specific path in the scratch; Returns whether path hits an obstacle
+    private boolean intersect(int pathIndex, EvaluationScratch scratch) {
+        EdgeBuffer edges = Constants.EDGES;
+        double x1 = getX(pathIndex);
+        double y1 = getY(pathIndex);
+        double x2 = getX(pathIndex + 1);
+        double y2 = getY(pathIndex + 1);
+        long[] candidateMask = scratch.getCandidateMask();
+        boolean hit = false;
+
+        Constants.EDGE_INDEX.markCandidates(x1, y1, x2, y2, candidateMask);
+        scratch.clearPoints();
+
+        // Mask words are narrowed to their hits by the orientation kernel before the boundaries are visited
+        for (int word = 0; word < candidateMask.length; word++) {
+            if (candidateMask[word] != 0)
+                candidateMask[word] = edges.hitMask(word, candidateMask[word], x1, y1, x2, y2,
+                        scratch.getSegmentSides(), scratch.getEdgeSides());
+        }
+
+        // Visits hit boundaries in ascending order so collisions are found in buffer order
+        for (int e = nextCandidate(candidateMask, 0); e >= 0; e = nextCandidate(candidateMask, e + 1)) {
+            hit = true;
+
+            // Line AB represented as a1x + b1y = c1
+            double a1 = y2 - y1;
+            double b1 = x1 - x2;
+            double c1 = a1 * x1 + b1 * y1;
+
+            // Line CD represented as a2x + b2y = c2
+            double a2 = edges.getY2(e) - edges.getY1(e);
+            double b2 = edges.getX1(e) - edges.getX2(e);
+            double c2 = a2 * edges.getX1(e) + b2 * edges.getY1(e);
+
+            double determinant = a1 * b2 - a2 * b1;
+
+            if (determinant != 0) {
+                double xIntersect = (b2 * c1 - b1 * c2) / determinant;
+                double yIntersect = (a1 * c2 - a2 * c1) / determinant;
+                boolean uniqueOccurrence = true;
+
+                for (int j = 0; j < scratch.getPointCount(); j++) {
+                    if (Math.abs(scratch.getPointsX()[j] - xIntersect) < Constants.FLOAT_THRESHOLD
+                            && Math.abs(scratch.getPointsY()[j] - yIntersect) < Constants.FLOAT_THRESHOLD) {
+                        uniqueOccurrence = false;
+                        break;
+                    }
+                }
+
+                if (uniqueOccurrence)
+                    scratch.addPoint(xIntersect, yIntersect);
+            }
+        }
+
+        return hit;
+    }
+
+    // Marks cached path as outdated
+    private void invalidatePath(int pathIndex) {
+        store.invalidatePath(slot, pathIndex);
+    }
+
+    // Finds first candidate boundary of mask at or after specified edge; Returns -1 if none remain
+    private static int nextCandidate(long[] candidateMask, int edge) {
+        int word = edge >>> 6;
+
+        if (word >= candidateMask.length)
+            return -1;
+
+        long bits = candidateMask[word] & (-1L << edge);
+
+        while (bits == 0) {
+            if (++word == candidateMask.length)
+                return -1;
+
+            bits = candidateMask[word];
+        }
+
+        return word * 64 + Long.numberOfTrailingZeros(bits);
+    }
+
+    // Calculates total distance traveled through obstacles
+    public double collisionDist() {
+        evaluate();
+        return collisionDistance;
+    }
+
+    // Draws environment with obstacles
+    private void drawEnvironment(DrawingPanel panel, Graphics2D g) {
+        panel.clear();
+        g.setColor(Color.BLACK);
+
+        for (Obstacle obstacle : Constants.OBSTACLES)
+            obstacle.drawObstacle(panel, g);
+    }
+
+    // Draws path of individual on the environment
+    public void drawIndividual(DrawingPanel panel, Graphics2D g) {
+        DecimalFormat df = new DecimalFormat("000.000");
+
+        drawEnvironment(panel, g);
+        g.setColor(Color.BLUE);
+
+        for (int i = 0; i < getLength() - 1; i++) {
+            g.fillOval((int) (getX(i) * Constants.X_SCALE) + (Constants.MARGIN_THICKNESS - Constants.POINT_RADIUS + 1) / 2,
+                    (int) (-getY(i) * Constants.Y_SCALE + Constants.PANEL_HEIGHT) + (Constants.MARGIN_THICKNESS - Constants.POINT_RADIUS + 1) / 2,
+                    Constants.POINT_RADIUS, Constants.POINT_RADIUS);
+
+            g.drawLine((int) (getX(i) * Constants.X_SCALE) + Constants.MARGIN_THICKNESS / 2,
+                    (int) (-getY(i) * Constants.Y_SCALE + Constants.PANEL_HEIGHT) + Constants.MARGIN_THICKNESS / 2,
+                    (int) (getX(i + 1) * Constants.X_SCALE) + Constants.MARGIN_THICKNESS / 2,
+                    (int) (-getY(i + 1) * Constants.Y_SCALE + Constants.PANEL_HEIGHT) + Constants.MARGIN_THICKNESS / 2);
+        }
+
+        g.fillOval((int) (getX(getLength() - 1) * Constants.X_SCALE) + (Constants.MARGIN_THICKNESS - Constants.POINT_RADIUS + 1) / 2,
+                (int) (-getY(getLength() - 1) * Constants.Y_SCALE + Constants.PANEL_HEIGHT) + (Constants.MARGIN_THICKNESS - Constants.POINT_RADIUS + 1) / 2,
+                Constants.POINT_RADIUS, Constants.POINT_RADIUS);
+
+        g.setColor(Color.BLACK);
+        g.drawString("Fitness: " + df.format(getCost()), Constants.PANEL_LENGTH - 150 + Constants.MARGIN_THICKNESS / 2,
+                Constants.PANEL_HEIGHT - 25 + Constants.MARGIN_THICKNESS / 2);
+
+        String status;
+
+        if (isFeasible())
+            status = "Feasible";
+        else
+            status = "Infeasible";
+
+        g.drawString("Feasibility: " + status, Constants.PANEL_LENGTH - 150 + Constants.MARGIN_THICKNESS / 2, Constants.PANEL_HEIGHT - 10 + Constants.MARGIN_THICKNESS / 2);
+        g.drawString("Chromosome Length: " + getLength(), Constants.PANEL_LENGTH - 150 + Constants.MARGIN_THICKNESS / 2,
+                Constants.PANEL_HEIGHT + 5 + Constants.MARGIN_THICKNESS / 2);
+
+        highlightCollision(panel, g);
+    }
+
+    // Highlights collision areas on individual's path
+    private void highlightCollision(DrawingPanel panel, Graphics2D g) {
+        Map<Integer, ArrayList<Point2D>> collisionMap = detectCollisions();
+        Set<Map.Entry<Integer, ArrayList<Point2D>>> collisionSet = collisionMap.entrySet();
+        int offset = 0;
+        int prevCollisionPath = 0;
+        boolean isInObstacle = false;
+
+        g.setColor(Color.RED);
+
+        // Iterates through each Path-Collision Points Map
+        for (Map.Entry<Integer, ArrayList<Point2D>> collidedPath : collisionSet) {
+            ArrayList<Point2D> collisionPoints = collidedPath.getValue();
+
+            // If node is in obstacle, then highlight collision areas
+            if (isInObstacle) {
+                for (int i = prevCollisionPath; i < collidedPath.getKey(); i++) {
+                    g.drawLine((int) (getX(i) * Constants.X_SCALE) + Constants.MARGIN_THICKNESS / 2,
+                            (int) (-getY(i) * Constants.Y_SCALE + Constants.PANEL_HEIGHT) + Constants.MARGIN_THICKNESS / 2,
+                            (int) (getX(i + 1) * Constants.X_SCALE) + Constants.MARGIN_THICKNESS / 2,
+                            (int) (-getY(i + 1) * Constants.Y_SCALE + Constants.PANEL_HEIGHT) + Constants.MARGIN_THICKNESS / 2);
+                }
+
+                g.drawLine((int) (getX(collidedPath.getKey()) * Constants.X_SCALE) + Constants.MARGIN_THICKNESS / 2,
+                        (int) (-getY(collidedPath.getKey()) * Constants.Y_SCALE + Constants.PANEL_HEIGHT) + Constants.MARGIN_THICKNESS / 2,
+                        (int) (collisionPoints.get(0).getX() * Constants.X_SCALE) + Constants.MARGIN_THICKNESS / 2,
+                        (int) (-collisionPoints.get(0).getY() * Constants.Y_SCALE + Constants.PANEL_HEIGHT) + Constants.MARGIN_THICKNESS / 2);
+            }
+
+            // Highlights collision areas
+            for (int i = offset; i < collisionPoints.size() - 1; i += 2) {
+                g.drawLine((int) (collisionPoints.get(i).getX() * Constants.X_SCALE) + Constants.MARGIN_THICKNESS / 2,
+                        (int) (-collisionPoints.get(i).getY() * Constants.Y_SCALE + Constants.PANEL_HEIGHT) + Constants.MARGIN_THICKNESS / 2,
+                        (int) (collisionPoints.get(i + 1).getX() * Constants.X_SCALE) + Constants.MARGIN_THICKNESS / 2,
+                        (int) (-collisionPoints.get(i + 1).getY() * Constants.Y_SCALE + Constants.PANEL_HEIGHT) + Constants.MARGIN_THICKNESS / 2);
+            }
+
+            // If node is in obstacle, then highlight collision area from intersection to node
+            if ((collidedPath.getValue().size() - offset) % 2 == 1) {
+                isInObstacle = true;
+                g.drawLine((int) (collisionPoints.get(collisionPoints.size() - 1).getX() * Constants.X_SCALE) + Constants.MARGIN_THICKNESS / 2,
+                        (int) (-collisionPoints.get(collisionPoints.size() - 1).getY() * Constants.Y_SCALE + Constants.PANEL_HEIGHT) + Constants.MARGIN_THICKNESS / 2,
+                        (int) (getX(collidedPath.getKey() + 1) * Constants.X_SCALE) + Constants.MARGIN_THICKNESS / 2,
+                        (int) (-getY(collidedPath.getKey() + 1) * Constants.Y_SCALE + Constants.PANEL_HEIGHT) + Constants.MARGIN_THICKNESS / 2);
+                offset = 1;
+            } else {
+                isInObstacle = false;
+                offset = 0;
+            }
+
+            // Get index of this collision path; Used if isInObstacle == true
+            prevCollisionPath = collidedPath.getKey() + 1;
+        }
+    }
+
+    public String toString() {
+        DecimalFormat df = new DecimalFormat("000.00");
+        String stringObstacle = "{(" + df.format(getX(0)) + ", " + df.format(getY(0)) + ")";
+
+        for (int i = 1; i < getLength(); i++)
+            stringObstacle += ", (" + df.format(getX(i)) + ", " + df.format(getY(i)) + ")";
+
+        stringObstacle += "}";
+
+        return stringObstacle;
+    }
+
+    // Writes chromosome in binary: node count followed by the raw coordinates of each node
+    public void write(DataOutput out) throws IOException {
+        out.writeShort(getLength());
+
+        for (int i = 0; i < getLength(); i++) {
+            out.writeDouble(getX(i));
+            out.writeDouble(getY(i));
+        }
+    }
+
+    // Overwrites chromosome with one written by write()
+    public void read(DataInput in) throws IOException {
+        int length = in.readShort();
+        clear();
+
+        for (int i = 0; i < length; i++)
+            insertNode(i, in.readDouble(), in.readDouble());
+    }
+
+    // Mutation Operators (Add/Delete/Change Node and Shorten/Correct the Path)
+
+    // Mutates individual
+    public void mutate(SplittableRandom random) {
+        MutationOperator[] mutations = MUTATIONS;
+        int index;
+
+        // Performs random mutation
+        switch (mutations[(int) (random.nextDouble() * mutations.length)]) {
+            case ADD:
+                if (getLength() != Constants.MAX_CHROMOSOME_LENGTH) {
+                    index = (int) (random.nextDouble() * (getLength() - 2)) + 1;
+                    insertNode(index, random.nextDouble() * Constants.MAX_X_VALUE, random.nextDouble() * Constants.MAX_Y_VALUE);
+                    break;
+                }
+            case DELETE:
+                if (getLength() != Constants.MIN_CHROMOSOME_LENGTH) {
+                    removeNode((int) (random.nextDouble() * (getLength() - 2)) + 1);
+                    break;
+                }
+            case CHANGE:
+                index = (int) (random.nextDouble() * (getLength() - 2)) + 1;
+                setNode(index, random.nextDouble() * Constants.MAX_X_VALUE, random.nextDouble() * Constants.MAX_Y_VALUE);
+                break;
+            case SHORTEN:
+                shortenPath();
+                break;
+            case REPAIR:
+                repairPath(random);
+                break;
+			/* case CORRECT:
+				correctPath();
+				break; */
+            default:
+                index = (int) (random.nextDouble() * (getLength() - 2)) + 1;
+                setNode(index, random.nextDouble() * Constants.MAX_X_VALUE, random.nextDouble() * Constants.MAX_Y_VALUE);
+        }
+    }
+
+    public void addNode(int index, double x, double y) {
+        insertNode(index, x, y);
+    }
+
+    public void addNode(int index, Point2D coord) {
+        insertNode(index, coord.getX(), coord.getY());
+    }
+
+    public void addNode(double x, double y) {
+        insertNode(getLength(), x, y);
+    }
+
+    public void addNode(Point2D coord) {
+        insertNode(getLength(), coord.getX(), coord.getY());
+    }
+
+    public void deleteNode(int index) {
+        removeNode(index);
+    }
+
+    public void changeNode(int index, double x, double y) {
+        setNode(index, x, y);
+    }
+
+    public void changeNode(int index, Point2D coord) {
+        setNode(index, coord.getX(), coord.getY());
+    }
+
+    // Inserts node; Only the paths touching the new node are invalidated
+    private void insertNode(int index, double x, double y) {
+        int paths = getLength();
+
+        store.insertNode(slot, index, x, y);
+        evaluated = false;
+
+        if (index < paths)
+            invalidatePath(index);
+
+        invalidatePath(index - 1);
+    }
+
+    // Removes node; Paths on either side are merged into one invalidated path
+    private void removeNode(int index) {
+        store.removeNode(slot, index);
+        evaluated = false;
+        invalidatePath(index - 1);
+    }
+
+    // Replaces node; Only the paths touching the node are invalidated
+    private void setNode(int index, double x, double y) {
+        store.setNode(slot, index, x, y);
+        evaluated = false;
+        invalidatePath(index - 1);
+        invalidatePath(index);
+    }
+
+    // Removes unnecessary coordinates in individual
+    public void shortenPath() {
+        boolean isShortest;
+
+        do {
+            isShortest = true;
+
+            for (int i = 0; i < getLength() - 2; i++) {
+                if (pathCollisionCount(i) == 0 && pathCollisionCount(i + 1) == 0
+                        && getLength() > Constants.MIN_CHROMOSOME_LENGTH) {
+                    removeNode(i + 1);
+                    isShortest = false;
+                }
+            }
+        } while (!isShortest);
+    }
+	
+    // Reroutes a random colliding path around the obstacles through the visibility graph; Detours that would
+    // exceed the maximum chromosome length are skipped
+    public void repairPath(SplittableRandom random) {
+        int collidingPaths = 0;
+
+        for (int i = 0; i < getLength() - 1; i++) {
+            if (pathHits(i))
+                collidingPaths++;
+        }
+
+        if (collidingPaths == 0)
+            return;
+
+        int path = -1;
+
+        for (int k = (int) (random.nextDouble() * collidingPaths); k >= 0; k--) {
+            do {
+                path++;
+            } while (!pathHits(path));
+        }
+
+        ArrayList<Point2D> detour = new ArrayList<Point2D>();
+        double length = Constants.VISIBILITY_GRAPH.shortestPath(getX(path), getY(path), getX(path + 1), getY(path + 1), detour);
+
+        if (length == Double.POSITIVE_INFINITY || getLength() + detour.size() > Constants.MAX_CHROMOSOME_LENGTH)
+            return;
+
+        for (int i = 0; i < detour.size(); i++)
+            insertNode(path + 1 + i, detour.get(i).getX(), detour.get(i).getY());
+    }
+
+	/* public void correctPath() {
+		for (int i = 1; i < chromosome.size() - 1; i++) {
+			boolean intersects = false;
+			double x;
+			double y;
+			
+			do {
+				x = Math.random() * Constants.GOAL_NODE.getX();
+				y = Math.random() * Constants.GOAL_NODE.getY();
+				
+				Line2D path = new Line2D.Double(new Point2D.Double(x, y), chromosome.get(i + 1));
+				
+				for (Obstacle obstacle : Constants.OBSTACLES) {
+					if (obstacle.intersects(path)) {
+						intersects = true;
+						break;
+					}
+				}
+			} while (intersects);
+			
+			chromosome.set(i, new Point2D.Double(x, y));
+		}
+		
+		cost();
+	} */
+
+    /* Getters */
+
+    // Read-only view for existing callers; Each node is copied into a new point when accessed
+    public List<Point2D> getChromosome() {
+        return new AbstractList<Point2D>() {
+            public Point2D get(int index) {
+                return getNode(index);
+            }
+
+            public int size() {
+                return getLength();
+            }
+        };
+    }
+
+    public double getCost() {
+        evaluate();
+        return store.getCost(slot);
+    }
+
+    public Point2D getNode(int index) {
+        return new Point2D.Double(getX(index), getY(index));
+    }
+
+    public double getX(int index) {
+        return store.getX(slot, index);
+    }
+
+    public double getY(int index) {
+        return store.getY(slot, index);
+    }
+
+    public Line2D getPath(int index) {
+        return new Line2D.Double(getX(index), getY(index), getX(index + 1), getY(index + 1));
+    }
+
+    public int getLength() {
+        return store.getLength(slot);
+    }
+}
@@ -0,0 +1,90 @@
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public class Island implements Runnable {
+
+    private final IslandModel model;
+    private final int index;
+    private final long seed;        // Root seed of this island's random streams
+    private final ArrayList<ConcurrentLinkedQueue<Individual>> inbound = new ArrayList<ConcurrentLinkedQueue<Individual>>();
+    private Population currentGen;
+    private Population nextGen;
+    private volatile int generation = 1;
+
+    // Island Constructor; Keeps one inbound migrant queue per source island
+    Island(IslandModel model, int index, long seed, int islandCount) {
+        this.model = model;
+        this.index = index;
+        this.seed = seed;
+
+        for (int i = 0; i < islandCount; i++)
+            inbound.add(new ConcurrentLinkedQueue<Individual>());
+    }
+
+    /* Important Functions */
+
+    // Evolves this island's population until the model is stopped; An island that ends on an error still leaves the
+    // phaser, so the other islands do not wait for it, and reports the failure so the run does not wait on it either
+    public void run() {
+        boolean finished = false;
+
+        try {
+            currentGen = MainGA.generateInitialPop(new SplittableRandom(MainGA.deriveSeed(seed, 0)));
+            nextGen = new Population(currentGen.getSize());
+            model.getGlobalBest().offer(currentGen.getFittest());
+
+            while (!model.isStopped()) {
+                SplittableRandom random = new SplittableRandom(MainGA.deriveSeed(seed, generation));
+                Evolution.evolvePopulation(currentGen, nextGen, generation, random);
+                Population temp = currentGen;
+                currentGen = nextGen;
+                nextGen = temp;
+                generation++;
+                model.getGlobalBest().offer(currentGen.getFittest());
+
+                if (generation % Constants.MIGRATION_INTERVAL == 0)
+                    migrate(random);
+            }
+
+            finished = true;
+        } finally {
+            if (!finished)
+                model.getGlobalBest().fail();
+
+            model.getPhaser().arriveAndDeregister();
+        }
+    }
+
+    // Sends fittest individuals to neighbours, waits for every island to do the same, then takes in migrants
+    private void migrate(SplittableRandom random) {
+        model.sendMigrants(index, currentGen, random);
+        model.getPhaser().arriveAndAwaitAdvance();
+
+        // Migrants replace the least fit individuals; Queues are drained in source order so runs stay reproducible
+        int replaced = 0;
+        for (ConcurrentLinkedQueue<Individual> queue : inbound) {
+            Individual migrant;
+            while ((migrant = queue.poll()) != null) {
+                if (replaced < currentGen.getSize() - Constants.ELITE_SURVIVORS) {
+                    currentGen.saveIndividual(currentGen.getSize() - 1 - replaced, migrant);
+                    replaced++;
+                }
+            }
+        }
+
+        currentGen.evaluate();
+        currentGen.sort();
+    }
+
+    // Queues a migrant sent by specified island
+    public void receive(int source, Individual migrant) {
+        inbound.get(source).offer(migrant);
+    }
+
+    /* Getters */
+
+    public int getGeneration() {
+        return generation;
+    }
+}
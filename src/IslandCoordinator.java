@@ -0,0 +1,197 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import java.net.ServerSocket;
+import java.net.Socket;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+public class IslandCoordinator implements IslandGroup {
+
+    private final long seed;
+    private final ServerSocket server;
+    private final Socket[] sockets;
+    private final DataOutputStream[] outputs;   // Locked while a message is written to a worker
+    private final boolean[] connected;          // Cleared once a worker can no longer be reached; Guarded by its output
+    private final AtomicInteger connectedCount = new AtomicInteger();
+    private final AtomicIntegerArray generations;     // Latest generation reported by each worker
+    private final GlobalBest globalBest = new GlobalBest();
+    private final SplittableRandom random;      // Picks targets for RANDOM topology; Guarded by this
+    private volatile boolean stopped;
+
+    // IslandCoordinator Constructor; Listens for worker processes on specified port
+    IslandCoordinator(long seed, int workerCount, int port) throws IOException {
+        this.seed = seed;
+        server = new ServerSocket(port);
+        sockets = new Socket[workerCount];
+        outputs = new DataOutputStream[workerCount];
+        connected = new boolean[workerCount];
+        generations = new AtomicIntegerArray(workerCount);
+        random = new SplittableRandom(MainGA.deriveSeed(seed, workerCount));
+    }
+
+    /* Important Functions */
+
+    // Waits for every worker; Each one is then told its island index and its seed
+    public void accept() throws IOException {
+        DataInputStream[] inputs = new DataInputStream[sockets.length];
+
+        for (int i = 0; i < sockets.length; i++) {
+            sockets[i] = server.accept();
+            sockets[i].setTcpNoDelay(true);
+            inputs[i] = new DataInputStream(new BufferedInputStream(sockets[i].getInputStream()));
+            outputs[i] = new DataOutputStream(new BufferedOutputStream(sockets[i].getOutputStream()));
+            connected[i] = true;
+            generations.set(i, 1);
+        }
+
+        connectedCount.set(sockets.length);
+
+        // Workers only start evolving once all of them are connected so no migrant is sent to a missing island
+        for (int i = 0; i < sockets.length; i++) {
+            outputs[i].writeInt(i);
+            outputs[i].writeLong(MainGA.deriveSeed(seed, i));
+            outputs[i].flush();
+
+            final int worker = i;
+            final DataInputStream input = inputs[i];
+            Thread listener = new Thread(() -> listen(worker, input), "Worker " + i);
+            listener.setDaemon(true);
+            listener.start();
+        }
+    }
+
+    // Reads messages of a worker until it disconnects; Migrants are relayed, best individuals are aggregated. Only a
+    // failed read ends the listener, as a failed relay only concerns the worker it was sent to
+    private void listen(int worker, DataInputStream in) {
+        try {
+            while (true) {
+                MessageType type = MessageType.read(in);
+                int generation = in.readInt();
+                Individual[] individuals = new Individual[MessageType.readCount(in)];
+
+                if (type == MessageType.BEST && individuals.length == 0)
+                    throw new IOException("Best message without individual");
+
+                generations.set(worker, generation);
+
+                for (int i = 0; i < individuals.length; i++) {
+                    individuals[i] = new Individual();
+                    individuals[i].read(in);
+                }
+
+                if (type == MessageType.BEST) {
+                    globalBest.offer(individuals[0]);
+                } else if (type == MessageType.MIGRANTS) {
+                    sendMigrants(worker, individuals);
+                }
+            }
+        } catch (IOException e) {
+            disconnect(worker);
+        }
+    }
+
+    // Relays migrants of source island to the islands picked by the migration topology
+    private void sendMigrants(int source, Individual[] migrants) {
+        switch (Constants.MIGRATION_TOPOLOGY) {
+            case RING:
+                send(source + 1 == outputs.length ? 0 : source + 1, MessageType.MIGRANTS, migrants);
+                break;
+            case FULLY_CONNECTED:
+                for (int target = 0; target < outputs.length; target++) {
+                    if (target != source)
+                        send(target, MessageType.MIGRANTS, migrants);
+                }
+                break;
+            case RANDOM:
+                int offset;
+                synchronized (this) {
+                    offset = (int) (random.nextDouble() * (outputs.length - 1));
+                }
+                send((source + 1 + offset) % outputs.length, MessageType.MIGRANTS, migrants);
+        }
+    }
+
+    // Writes a message to a worker: type, generation, individual count, then each chromosome; Disconnected workers are
+    // skipped
+    private void send(int worker, MessageType type, Individual[] individuals) {
+        DataOutputStream out = outputs[worker];
+
+        synchronized (out) {
+            if (!connected[worker])
+                return;
+
+            try {
+                out.writeByte(type.ordinal());
+                out.writeInt(generations.get(worker));
+                out.writeShort(individuals.length);
+
+                for (Individual indiv : individuals)
+                    indiv.write(out);
+
+                out.flush();
+            } catch (IOException e) {
+                disconnect(worker);
+            }
+        }
+    }
+
+    // Marks worker as unreachable; The run fails once every worker is lost before the coordinator stops them
+    private void disconnect(int worker) {
+        synchronized (outputs[worker]) {
+            if (!connected[worker])
+                return;
+
+            connected[worker] = false;
+        }
+
+        if (stopped)
+            return;
+
+        System.out.println("Worker " + worker + " disconnected");
+
+        if (connectedCount.decrementAndGet() == 0)
+            globalBest.fail();
+    }
+
+    // Tells every worker to stop and closes the connections
+    public void stop() {
+        stopped = true;
+
+        for (int i = 0; i < outputs.length; i++) {
+            send(i, MessageType.STOP, new Individual[0]);
+
+            try {
+                sockets[i].close();
+            } catch (IOException e) {
+                // Worker already disconnected
+            }
+        }
+
+        try {
+            server.close();
+        } catch (IOException e) {
+            // Server socket already closed
+        }
+    }
+
+    /* Getters */
+
+    public GlobalBest getGlobalBest() {
+        return globalBest;
+    }
+
+    public int getGenerations() {
+        int total = 0;
+
+        for (int i = 0; i < sockets.length; i++)
+            total += generations.get(i);
+
+        return total;
+    }
+}
@@ -0,0 +1,10 @@
+interface IslandGroup {
+    // Best individual found by any island
+    GlobalBest getGlobalBest();
+
+    // Total generations evolved by all islands
+    int getGenerations();
+
+    // Stops every island
+    void stop() throws InterruptedException;
+}
@@ -0,0 +1,86 @@
+import java.util.SplittableRandom;
+import java.util.concurrent.Phaser;
+
+public class IslandModel implements IslandGroup {
+
+    private final Island[] islands;
+    private final Thread[] threads;
+    private final GlobalBest globalBest = new GlobalBest();
+    private final Phaser phaser;                // Aligns islands at every migration
+    private volatile boolean stopped;
+
+    // IslandModel Constructor; Island i derives its random streams from the i-th seed of the run
+    IslandModel(long seed, int islandCount) {
+        islands = new Island[islandCount];
+        threads = new Thread[islandCount];
+        phaser = new Phaser(islandCount);
+
+        for (int i = 0; i < islandCount; i++) {
+            islands[i] = new Island(this, i, MainGA.deriveSeed(seed, i), islandCount);
+            threads[i] = new Thread(islands[i], "Island " + i);
+            threads[i].setDaemon(true);
+        }
+    }
+
+    /* Important Functions */
+
+    // Starts evolving every island on its own thread
+    public void start() {
+        for (Thread thread : threads)
+            thread.start();
+    }
+
+    // Stops every island and waits for its thread to finish
+    public void stop() throws InterruptedException {
+        stopped = true;
+
+        for (Thread thread : threads)
+            thread.join();
+    }
+
+    // Copies fittest individuals of source island into the queues of its neighbours
+    public void sendMigrants(int source, Population population, SplittableRandom random) {
+        switch (Constants.MIGRATION_TOPOLOGY) {
+            case RING:
+                sendMigrants(source, (source + 1) % islands.length, population);
+                break;
+            case FULLY_CONNECTED:
+                for (int target = 0; target < islands.length; target++) {
+                    if (target != source)
+                        sendMigrants(source, target, population);
+                }
+                break;
+            case RANDOM:
+                sendMigrants(source, (source + 1 + (int) (random.nextDouble() * (islands.length - 1))) % islands.length, population);
+        }
+    }
+
+    private void sendMigrants(int source, int target, Population population) {
+        for (int i = 0; i < Math.min(Constants.MIGRANT_COUNT, population.getSize()); i++)
+            islands[target].receive(source, population.getIndividual(i).clone());
+    }
+
+    /* Getters */
+
+    public GlobalBest getGlobalBest() {
+        return globalBest;
+    }
+
+    public Phaser getPhaser() {
+        return phaser;
+    }
+
+    public boolean isStopped() {
+        return stopped;
+    }
+
+    // Total generations evolved by all islands
+    public int getGenerations() {
+        int generations = 0;
+
+        for (Island island : islands)
+            generations += island.getGeneration();
+
+        return generations;
+    }
+}
@@ -0,0 +1,124 @@
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import java.net.Socket;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+public class IslandWorker {
+
+    private final Socket socket;
+    private final DataInputStream in;
+    private final DataOutputStream out;
+    private final ConcurrentLinkedQueue<Individual> inbound = new ConcurrentLinkedQueue<Individual>();
+    private final int index;
+    private final long seed;        // Root seed of this island's random streams
+    private volatile boolean stopped;
+
+    // IslandWorker Constructor; Connects to coordinator and waits for this island's index and seed
+    IslandWorker(String host, int port) throws IOException {
+        socket = new Socket(host, port);
+        socket.setTcpNoDelay(true);
+        in = new DataInputStream(new BufferedInputStream(socket.getInputStream()));
+        out = new DataOutputStream(new BufferedOutputStream(socket.getOutputStream()));
+        index = in.readInt();
+        seed = in.readLong();
+    }
+
+    /* Important Functions */
+
+    // Evolves this island's population with the usual pipeline until the coordinator stops it
+    public void run() throws IOException {
+        Thread listener = new Thread(this::listen, "Coordinator");
+        listener.setDaemon(true);
+        listener.start();
+        System.out.println("Island " + index + " connected");
+
+        try {
+            int generation = 1;
+            Population currentGen = MainGA.generateInitialPop(new SplittableRandom(MainGA.deriveSeed(seed, 0)));
+            Population nextGen = new Population(currentGen.getSize());
+            double bestCost = currentGen.getFittest().getCost();
+            send(MessageType.BEST, generation, currentGen, 1);
+
+            while (!stopped) {
+                Evolution.evolvePopulation(currentGen, nextGen, generation, new SplittableRandom(MainGA.deriveSeed(seed, generation)));
+                Population temp = currentGen;
+                currentGen = nextGen;
+                nextGen = temp;
+                generation++;
+
+                if (generation % Constants.MIGRATION_INTERVAL == 0) {
+                    send(MessageType.MIGRANTS, generation, currentGen, Math.min(Constants.MIGRANT_COUNT, currentGen.getSize()));
+                    takeMigrants(currentGen);
+                }
+
+                // Only improvements travel to the coordinator
+                if (currentGen.getFittest().getCost() < bestCost) {
+                    bestCost = currentGen.getFittest().getCost();
+                    send(MessageType.BEST, generation, currentGen, 1);
+                }
+            }
+        } catch (IOException e) {
+            // Coordinator closed the connection
+            if (!stopped)
+                System.out.println("Island " + index + " lost connection to coordinator");
+        }
+
+        socket.close();
+    }
+
+    // Replaces least fit individuals with migrants that arrived since the last migration
+    private void takeMigrants(Population population) {
+        int replaced = 0;
+        Individual migrant;
+
+        while ((migrant = inbound.poll()) != null) {
+            if (replaced < population.getSize() - Constants.ELITE_SURVIVORS) {
+                population.saveIndividual(population.getSize() - 1 - replaced, migrant);
+                replaced++;
+            }
+        }
+
+        population.evaluate();
+        population.sort();
+    }
+
+    // Writes fittest individuals of population to the coordinator
+    private void send(MessageType type, int generation, Population population, int count) throws IOException {
+        out.writeByte(type.ordinal());
+        out.writeInt(generation);
+        out.writeShort(count);
+
+        for (int i = 0; i < count; i++)
+            population.getIndividual(i).write(out);
+
+        out.flush();
+    }
+
+    // Reads messages from the coordinator until it sends STOP or disconnects
+    private void listen() {
+        try {
+            while (!stopped) {
+                MessageType type = MessageType.read(in);
+                in.readInt();
+                int count = MessageType.readCount(in);
+
+                for (int i = 0; i < count; i++) {
+                    Individual migrant = new Individual();
+                    migrant.read(in);
+                    inbound.offer(migrant);
+                }
+
+                if (type == MessageType.STOP)
+                    stopped = true;
+            }
+        } catch (IOException e) {
+            stopped = true;
+        }
+    }
+}
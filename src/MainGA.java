@@ -1,137 +1,386 @@
-
-import java.awt.Graphics2D;
-
-import java.io.File;
-import java.io.FileWriter;
-import java.io.IOException;
-
-import java.text.DecimalFormat;
-
-public class MainGA {
-    public static int generation = 1;
-
-    public static void main(String[] args) throws IOException {
-        // Runs the genetic algorithm
-        if (Constants.PERFORM_LAB) {
-            String selectionMethod = "TOS";
-            String trialName = selectionMethod + "-INTELLIGENT";
-            performLab(selectionMethod, trialName);
-        } else {
-            Population optimizedPop = performGA();
-        }
-    }
-
-    // Generates multiple populations; Population with highest diversity is chosen as initial population
-    public static Population generateInitialPop() {
-        Population currentPop = new Population(true, Constants.POPULATION_SIZE);
-        for (int i = 0; i < Constants.INITIAL_POPULATIONS; i++) {
-            Population candidatePop = new Population(true, Constants.POPULATION_SIZE);
-            if (candidatePop.diversity() > currentPop.diversity()) {
-                currentPop = candidatePop;
-            }
-        }
-        return currentPop;
-    }
-
-    public static void performLab(String selectionMethod, String trialName) throws IOException {
-        System.out.println("Performing Lab...");
-        FileWriter trialFW = null;
-        if (Constants.COLLECT_TRIAL_DATA) {
-            File trialData = new File("C:\\Users\\chris\\Documents\\Learning Studios\\Trial Data\\"
-                    + "Fitness Limit\\" + selectionMethod + "\\" + trialName + " Trials.txt");
-            trialFW = new FileWriter(trialData);
-            trialFW.write("\"Trial\",\"Generations\",\"Avg Cost\",\"Min Cost\",\"Max Cost\","
-                    + "\"Median Cost\",\"Duration (s)\",\"Speed (gen/s)\"\n");
-        }
-
-        // Performs multiple genetic algorithm trials
-        FileWriter genFW = null;
-        for (int i = 1; i <= Constants.TRIAL_RUNS; i++) {
-            System.out.println("Trial " + i);
-            if (Constants.COLLECT_GENERATION_DATA) {
-                File genData = new File("C:\\Users\\chris\\Documents\\Learning Studios\\Generation Data\\" +
-                        trialName + " Trials\\" + trialName + " Trial " + i + ".txt");
-                genFW = new FileWriter(genData);
-                genFW.write("\"Generation\",\"Avg Length\",\"Diversity\",\"Avg Cost\",\"Min Cost\",\"Max Cost\",\"Median Cost\"\n");
-            }
-            performTrial(trialFW, genFW, i);
-        }
-        System.out.println("\n**** " + trialName + " experiment successfully executed ****");
-    }
-
-    // Perform a genetic algorithm trial for the experiment
-    private static void performTrial(FileWriter trialFW, FileWriter genFW, int trial) throws IOException {
-        Population currentGen = generateInitialPop();
-        double duration = System.nanoTime();
-
-        // Iterates through each generation until certain criteria has been met
-        do {
-            // Collect Data for each Generation: Average Length, Diversity, Average Cost, Minimum Cost, Maximum Cost, Median Cost
-            if (Constants.COLLECT_GENERATION_DATA) {
-                genFW.write(generation + "," + currentGen.avgLength() + "," + currentGen.diversity() + "," + currentGen.avgCost() + "," +
-                        currentGen.getFittest().getCost() + "," + currentGen.getWorst().getCost() + "," + currentGen.getMedian().getCost() + "\n");
-            }
-            Population nextGen = new Population(false, Constants.POPULATION_SIZE);
-            Evolution.evolvePopulation(currentGen, nextGen);
-            currentGen = nextGen;
-            generation++;
-        } while (currentGen.getFittest().getCost() > Constants.FITNESS_LIMIT);
-
-        duration = -duration + System.nanoTime();
-
-        // Collect Data for Trial: Average Cost, Minimum Cost, Maximum Cost, Median Cost, Duration, Speed
-        if (Constants.COLLECT_TRIAL_DATA) {
-            trialFW.write(trial + "," + generation + "," + currentGen.avgCost() + "," + currentGen.getFittest().getCost() + "," +
-                    currentGen.getWorst().getCost() + "," + currentGen.getMedian().getCost() + "," +
-                    duration * Math.pow(10, -9) + "," + generation / (duration * Math.pow(10, -9)) + "\n");
-            trialFW.close();
-        }
-        // Collect Data for Optimized Generation
-        if (Constants.COLLECT_GENERATION_DATA) {
-            genFW.write(generation + "," + currentGen.avgLength() + "," + currentGen.diversity() + "," + currentGen.avgCost() + "," +
-                    currentGen.getFittest().getCost() + "," + currentGen.getWorst().getCost() + "," + currentGen.getMedian().getCost() + "\n");
-            genFW.close();
-        }
-    }
-
-    // Performs genetic algorithm
-    private static Population performGA() {
-        DecimalFormat df = new DecimalFormat("000.000");
-        DrawingPanel panel = new DrawingPanel(Constants.PANEL_LENGTH + Constants.MARGIN_THICKNESS, Constants.PANEL_HEIGHT + Constants.MARGIN_THICKNESS);
-        Graphics2D g = panel.getGraphics();
-        Population currentGen = generateInitialPop();
-
-        if (Constants.DRAW_FITTEST) {
-            currentGen.getFittest().drawIndividual(panel, g);
-        }
-
-        double duration = System.nanoTime();
-
-        // Iterates through each generation until generation limit or satisfactory fitness
-        do {
-            System.out.println("Generation " + generation + ":\t" + df.format(currentGen.getFittest().getCost()) + "\t" +
-                    currentGen.getFittest().isFeasible());
-            // Evolves current population
-            Population nextGen = new Population(false, Constants.POPULATION_SIZE);
-            Evolution.evolvePopulation(currentGen, nextGen);
-            // Displays fittest individual
-            if (Constants.DRAW_FITTEST) {
-                if (nextGen.getFittest().getCost() < currentGen.getFittest().getCost()) {
-                    nextGen.getFittest().drawIndividual(panel, g);
-                }
-            }
-            currentGen = nextGen;
-            generation++;
-        } while (currentGen.getFittest().getCost() > Constants.FITNESS_LIMIT || !currentGen.getFittest().isFeasible() /*generation < Constants.GENERATION_LIMIT*/);
-
-        duration = -duration + System.nanoTime();
-
-        // Print summary of genetic algorithm
-        currentGen.printStatistics();
-        System.out.println("\nExecution Time: \t" + duration * Math.pow(10, -9) + " seconds");
-        System.out.println("Generation: \t\t" + generation);
-        System.out.println("Speed of GA: \t\t" + generation / (duration * Math.pow(10, -9)) + " generations / second");
-
-        return currentGen;
-    }
-}
+
+import java.awt.Graphics2D;
+import java.awt.geom.Point2D;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+
+import java.text.DecimalFormat;
+
+import java.util.ArrayList;
+import java.util.SplittableRandom;
+
+public class MainGA {
+    public static int generation = 1;
+
+    public static void main(String[] args) throws IOException {
+        // Every random stream of the run is derived from this root seed
+        long seed = Constants.RANDOM_SEED;
+
+        // Recordings hold one fingerprint per generation of a single thread, which only generational runs and labs produce
+        if (Constants.RUN_MODE != RunMode.NORMAL && !Constants.PERFORM_LAB && (args.length > 0 || Constants.ISLAND_COUNT > 1
+                || Constants.ENGINE_MODE == EngineMode.STEADY_STATE)) {
+            System.out.println("Run mode " + Constants.RUN_MODE + " is only supported by generational runs and labs");
+            return;
+        }
+
+        // Runs the genetic algorithm
+        if (Constants.PERFORM_LAB) {
+            String selectionMethod = "TOS";
+            String trialName = selectionMethod + "-INTELLIGENT";
+            performLab(selectionMethod, trialName, seed);
+        } else if (args.length > 0 && args[0].equals("coordinator")) {
+            IslandCoordinator coordinator = new IslandCoordinator(seed, Constants.WORKER_COUNT, Constants.COORDINATOR_PORT);
+            System.out.println("Waiting for " + Constants.WORKER_COUNT + " workers on port " + Constants.COORDINATOR_PORT + "...");
+            coordinator.accept();
+            performIslandGA(coordinator, seed);
+        } else if (args.length > 0 && args[0].equals("worker")) {
+            new IslandWorker(args.length > 1 ? args[1] : Constants.COORDINATOR_HOST, Constants.COORDINATOR_PORT).run();
+        } else if (Constants.ISLAND_COUNT > 1) {
+            IslandModel model = new IslandModel(seed, Constants.ISLAND_COUNT);
+            model.start();
+            performIslandGA(model, seed);
+        } else if (Constants.ENGINE_MODE == EngineMode.STEADY_STATE) {
+            performSteadyStateGA(seed);
+        } else {
+            Population optimizedPop = performGA(seed);
+        }
+    }
+
+    // Generates multiple populations; Population with highest diversity is chosen as initial population. Seeding modes
+    // generate a single population instead
+    public static Population generateInitialPop(SplittableRandom random) {
+        Population currentPop = new Population(Constants.POPULATION_SIZE);
+        currentPop.randomize(random);
+        if (Constants.SEEDING_MODE != SeedingMode.RANDOM) {
+            seedPopulation(currentPop, random);
+            return currentPop;
+        }
+        Population candidatePop = new Population(Constants.POPULATION_SIZE);
+        for (int i = 0; i < Constants.INITIAL_POPULATIONS; i++) {
+            candidatePop.randomize(random);
+            if (candidatePop.diversity() > currentPop.diversity()) {
+                Population temp = currentPop;
+                currentPop = candidatePop;
+                candidatePop = temp;
+            }
+        }
+        return currentPop;
+    }
+
+    // Rebuilds the least fit portion of population from seeded routes; Individuals without a route stay random
+    private static void seedPopulation(Population population, SplittableRandom random) {
+        ArrayList<Point2D> route = new ArrayList<Point2D>();
+        GridSeeder grid = (Constants.SEEDING_MODE == SeedingMode.GRID_ASTAR) ? new GridSeeder(Constants.SEED_GRID_CELL_SIZE) : null;
+        int seeds = (int) (Constants.SEED_FRACTION * population.getSize());
+        for (int i = population.getSize() - seeds; i < population.getSize(); i++) {
+            route.clear();
+            if (grid != null ? grid.route(route, random) : visibilityRoute(route, random)) {
+                population.getIndividual(i).follow(route);
+            }
+        }
+        population.evaluate();
+        population.sort();
+    }
+
+    // Shortest route from start to goal through a random visibility graph node, so seeds differ but avoid obstacles
+    private static boolean visibilityRoute(ArrayList<Point2D> route, SplittableRandom random) {
+        VisibilityGraph graph = Constants.VISIBILITY_GRAPH;
+        int via = (int) (random.nextDouble() * graph.getNodeCount());
+        if (via == VisibilityGraph.START || via == VisibilityGraph.GOAL) {
+            return graph.shortestPath(VisibilityGraph.START, VisibilityGraph.GOAL, route) < Double.POSITIVE_INFINITY;
+        }
+        if (graph.shortestPath(VisibilityGraph.START, via, route) == Double.POSITIVE_INFINITY) {
+            return false;
+        }
+        route.add(new Point2D.Double(graph.getX(via), graph.getY(via)));
+        return graph.shortestPath(via, VisibilityGraph.GOAL, route) < Double.POSITIVE_INFINITY;
+    }
+
+    // Derives an independent seed for a trial or generation; Same root seed and index always give the same seed
+    static long deriveSeed(long seed, long index) {
+        long z = seed + (index + 1) * 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    public static void performLab(String selectionMethod, String trialName, long seed) throws IOException {
+        System.out.println("Performing Lab...");
+        // Replays take their seed from the recording; Trial seeds derive from it, so every trial is compared
+        RunLog runLog = null;
+        if (Constants.RUN_MODE == RunMode.REPLAY) {
+            runLog = RunLog.load(Constants.RUN_LOG_FILE);
+            seed = runLog.getSeed();
+        } else if (Constants.RUN_MODE == RunMode.RECORD) {
+            runLog = new RunLog(seed);
+        }
+        System.out.println("Seed: " + seed);
+        // Shortest route is the ground truth every trial is measured against
+        BaselinePlanner baseline = new BaselinePlanner(Constants.OBSTACLES, Constants.EDGE_INDEX);
+        if (baseline.hasRoute()) {
+            System.out.println("Shortest Route: \t" + baseline.getLength() + " solved in " + baseline.getSolveTime() + " seconds");
+        } else {
+            System.out.println("Shortest Route: \tnone, no baseline exists for the optimality gap");
+        }
+        String within = "Within " + Constants.OPTIMALITY_TOLERANCE * 100 + "%";
+        FileWriter trialFW = null;
+        if (Constants.COLLECT_TRIAL_DATA) {
+            File trialData = new File("C:\\Users\\chris\\Documents\\Learning Studios\\Trial Data\\"
+                    + "Fitness Limit\\" + selectionMethod + "\\" + trialName + " Trials.txt");
+            trialFW = new FileWriter(trialData);
+            trialFW.write("\"Trial\",\"Generations\",\"Avg Cost\",\"Min Cost\",\"Max Cost\","
+                    + "\"Median Cost\",\"Duration (s)\",\"Speed (gen/s)\",\"Optimality Gap (%)\","
+                    + "\"Gens to " + within + "\",\"Time to " + within + " (s)\"\n");
+        }
+
+        // Performs multiple genetic algorithm trials
+        FileWriter genFW = null;
+        for (int i = 1; i <= Constants.TRIAL_RUNS; i++) {
+            System.out.println("Trial " + i);
+            if (Constants.COLLECT_GENERATION_DATA) {
+                File genData = new File("C:\\Users\\chris\\Documents\\Learning Studios\\Generation Data\\" +
+                        trialName + " Trials\\" + trialName + " Trial " + i + ".txt");
+                genFW = new FileWriter(genData);
+                genFW.write("\"Generation\",\"Avg Length\",\"Diversity\",\"Avg Cost\",\"Min Cost\",\"Max Cost\",\"Median Cost\"\n");
+            }
+            performTrial(trialFW, genFW, i, deriveSeed(seed, i), baseline, runLog);
+        }
+
+        if (Constants.RUN_MODE == RunMode.REPLAY) {
+            runLog.finish(generation);
+        } else if (Constants.RUN_MODE == RunMode.RECORD) {
+            runLog.save(Constants.RUN_LOG_FILE);
+        }
+        System.out.println("\n**** " + trialName + " experiment successfully executed ****");
+    }
+
+    // Perform a genetic algorithm trial for the experiment; Generations are numbered across trials, and a trial's initial
+    // population shares its number with the last generation of the previous trial, so only evolved generations are logged
+    private static void performTrial(FileWriter trialFW, FileWriter genFW, int trial, long seed, BaselinePlanner baseline,
+                                     RunLog runLog) throws IOException {
+        Population currentGen = generateInitialPop(new SplittableRandom(deriveSeed(seed, 0)));
+        Population nextGen = new Population(Constants.POPULATION_SIZE);
+        int firstGeneration = generation;
+        int withinGens = -1;        // Generations until fittest is feasible and within tolerance of the shortest route
+        double withinTime = -1;
+        double duration = System.nanoTime();
+
+        // Iterates through each generation until certain criteria has been met
+        do {
+            if (withinGens < 0 && isNearOptimal(currentGen, baseline)) {
+                withinGens = generation - firstGeneration;
+                withinTime = (System.nanoTime() - duration) * Math.pow(10, -9);
+            }
+            // Collect Data for each Generation: Average Length, Diversity, Average Cost, Minimum Cost, Maximum Cost, Median Cost
+            if (Constants.COLLECT_GENERATION_DATA) {
+                writeGenerationData(genFW, currentGen);
+            }
+            // Generations alternate between the two buffers; Individuals are overwritten in place
+            Evolution.evolvePopulation(currentGen, nextGen, generation, new SplittableRandom(deriveSeed(seed, generation)));
+            Population temp = currentGen;
+            currentGen = nextGen;
+            nextGen = temp;
+            generation++;
+            logGeneration(runLog, currentGen);
+        } while (currentGen.getFittest().getCost() > Constants.FITNESS_LIMIT);
+
+        duration = -duration + System.nanoTime();
+        if (withinGens < 0 && isNearOptimal(currentGen, baseline)) {
+            withinGens = generation - firstGeneration;
+            withinTime = duration * Math.pow(10, -9);
+        }
+        // Gap is reported as missing rather than NaN when the environment has no shortest route
+        double gap = baseline.gap(currentGen.getFittest().getCost()) * 100;
+        System.out.println("Optimality Gap: \t" + (baseline.hasRoute() ? gap + "%" : "no baseline route")
+                + (withinGens < 0 ? "" : " | Within " + Constants.OPTIMALITY_TOLERANCE * 100
+                + "% after " + withinGens + " generations (" + withinTime + " seconds)"));
+
+        // Collect Data for Trial: Average Cost, Minimum Cost, Maximum Cost, Median Cost, Duration, Speed, Optimality Gap,
+        // Generations and Time to Within Tolerance; Gap column stays empty without a baseline route, tolerance columns if
+        // the trial never got there
+        if (Constants.COLLECT_TRIAL_DATA) {
+            PopulationStatistics stats = currentGen.getStatistics();
+            trialFW.write(trial + "," + generation + "," + stats.getMean() + "," + stats.getMin() + "," +
+                    stats.getMax() + "," + stats.getMedian() + "," +
+                    duration * Math.pow(10, -9) + "," + generation / (duration * Math.pow(10, -9)) + "," + (baseline.hasRoute() ? gap : "") + "," +
+                    (withinGens < 0 ? "" : withinGens) + "," + (withinGens < 0 ? "" : withinTime) + "\n");
+            trialFW.close();
+        }
+        // Collect Data for Optimized Generation
+        if (Constants.COLLECT_GENERATION_DATA) {
+            writeGenerationData(genFW, currentGen);
+            genFW.close();
+        }
+    }
+
+    // Determines whether fittest individual is feasible and within tolerance of the shortest route
+    private static boolean isNearOptimal(Population population, BaselinePlanner baseline) {
+        Individual fittest = population.getFittest();
+        return fittest.isFeasible() && baseline.isWithin(fittest.getCost(), Constants.OPTIMALITY_TOLERANCE);
+    }
+
+    // Writes statistics of a generation from a single pass over the population; Median is approximate
+    private static void writeGenerationData(FileWriter genFW, Population currentGen) throws IOException {
+        PopulationStatistics stats = currentGen.getStatistics();
+        genFW.write(generation + "," + stats.getMeanLength() + "," + stats.getStandardDeviation() + "," + stats.getMean() + "," +
+                stats.getMin() + "," + stats.getMax() + "," + stats.getMedian() + "\n");
+    }
+
+    // Performs genetic algorithm
+    private static Population performGA(long seed) throws IOException {
+        DecimalFormat df = new DecimalFormat("000.000");
+        DrawingPanel panel = new DrawingPanel(Constants.PANEL_LENGTH + Constants.MARGIN_THICKNESS, Constants.PANEL_HEIGHT + Constants.MARGIN_THICKNESS);
+        Graphics2D g = panel.getGraphics();
+
+        // Replays take their seed from the recording so every generation can be compared with it
+        RunLog runLog = null;
+        if (Constants.RUN_MODE == RunMode.REPLAY) {
+            runLog = RunLog.load(Constants.RUN_LOG_FILE);
+            seed = runLog.getSeed();
+        } else if (Constants.RUN_MODE == RunMode.RECORD) {
+            runLog = new RunLog(seed);
+        }
+        System.out.println("Seed: " + seed);
+
+        Population currentGen = generateInitialPop(new SplittableRandom(deriveSeed(seed, 0)));
+        Population nextGen = new Population(Constants.POPULATION_SIZE);
+        logGeneration(runLog, currentGen);
+
+        if (Constants.DRAW_FITTEST) {
+            currentGen.getFittest().drawIndividual(panel, g);
+        }
+
+        double duration = System.nanoTime();
+
+        // Iterates through each generation until generation limit or satisfactory fitness
+        do {
+            System.out.println("Generation " + generation + ":\t" + df.format(currentGen.getFittest().getCost()) + "\t" +
+                    currentGen.getFittest().isFeasible());
+            // Evolves current population into the spare buffer
+            Evolution.evolvePopulation(currentGen, nextGen, generation, new SplittableRandom(deriveSeed(seed, generation)));
+            // Displays fittest individual
+            if (Constants.DRAW_FITTEST) {
+                if (nextGen.getFittest().getCost() < currentGen.getFittest().getCost()) {
+                    nextGen.getFittest().drawIndividual(panel, g);
+                }
+            }
+            Population temp = currentGen;
+            currentGen = nextGen;
+            nextGen = temp;
+            generation++;
+            logGeneration(runLog, currentGen);
+        } while (currentGen.getFittest().getCost() > Constants.FITNESS_LIMIT || !currentGen.getFittest().isFeasible() /*generation < Constants.GENERATION_LIMIT*/);
+
+        duration = -duration + System.nanoTime();
+
+        if (Constants.RUN_MODE == RunMode.REPLAY) {
+            runLog.finish(generation);
+        } else if (Constants.RUN_MODE == RunMode.RECORD) {
+            runLog.save(Constants.RUN_LOG_FILE);
+        }
+
+        // Print summary of genetic algorithm
+        currentGen.printStatistics();
+        System.out.println("\nExecution Time: \t" + duration * Math.pow(10, -9) + " seconds");
+        System.out.println("Generation: \t\t" + generation);
+        System.out.println("Speed of GA: \t\t" + generation / (duration * Math.pow(10, -9)) + " generations / second");
+
+        return currentGen;
+    }
+
+    // Performs steady-state genetic algorithm; Checks termination after every bred pair
+    private static Individual performSteadyStateGA(long seed) {
+        DecimalFormat df = new DecimalFormat("000.000");
+        DrawingPanel panel = new DrawingPanel(Constants.PANEL_LENGTH + Constants.MARGIN_THICKNESS, Constants.PANEL_HEIGHT + Constants.MARGIN_THICKNESS);
+        Graphics2D g = panel.getGraphics();
+        System.out.println("Seed: " + seed);
+
+        Population population = generateInitialPop(new SplittableRandom(deriveSeed(seed, 0)));
+        SteadyStateGA engine = new SteadyStateGA(population, CrossoverOperator.INTELLIGENT);
+        SplittableRandom random = new SplittableRandom(deriveSeed(seed, 1));
+
+        if (Constants.DRAW_FITTEST) {
+            engine.getFittest().drawIndividual(panel, g);
+        }
+
+        double duration = System.nanoTime();
+
+        // Breeds pairs until satisfactory fitness; Reports each improvement of the fittest individual
+        do {
+            double fittestCost = engine.getFittest().getCost();
+            engine.step(random);
+            if (engine.getFittest().getCost() < fittestCost) {
+                System.out.println("Evaluation " + engine.getEvaluations() + ":\t" + df.format(engine.getFittest().getCost()) + "\t" +
+                        engine.getFittest().isFeasible());
+                if (Constants.DRAW_FITTEST) {
+                    engine.getFittest().drawIndividual(panel, g);
+                }
+            }
+        } while (engine.getFittest().getCost() > Constants.FITNESS_LIMIT || !engine.getFittest().isFeasible());
+
+        duration = -duration + System.nanoTime();
+
+        // Print summary of genetic algorithm
+        population.printStatistics();
+        System.out.println("\nExecution Time: \t" + duration * Math.pow(10, -9) + " seconds");
+        System.out.println("Evaluations: \t\t" + engine.getEvaluations());
+        System.out.println("Speed of GA: \t\t" + engine.getEvaluations() / (duration * Math.pow(10, -9)) + " evaluations / second");
+
+        return engine.getFittest();
+    }
+
+    // Performs genetic algorithm on running islands; Terminates on the best individual found by any island
+    private static Individual performIslandGA(IslandGroup islands, long seed) {
+        DecimalFormat df = new DecimalFormat("000.000");
+        DrawingPanel panel = new DrawingPanel(Constants.PANEL_LENGTH + Constants.MARGIN_THICKNESS, Constants.PANEL_HEIGHT + Constants.MARGIN_THICKNESS);
+        Graphics2D g = panel.getGraphics();
+        System.out.println("Seed: " + seed);
+
+        Individual fittest = null;
+        double duration = System.nanoTime();
+
+        // Waits for each improvement of the global best until satisfactory fitness
+        try {
+            do {
+                fittest = islands.getGlobalBest().awaitImprovement(fittest == null ? Double.POSITIVE_INFINITY : fittest.getCost());
+                if (islands.getGlobalBest().hasFailed()) {
+                    break;
+                }
+                System.out.println("Generations " + islands.getGenerations() + ":\t" + df.format(fittest.getCost()) + "\t" + fittest.isFeasible());
+                if (Constants.DRAW_FITTEST) {
+                    fittest.drawIndividual(panel, g);
+                }
+            } while (fittest.getCost() > Constants.FITNESS_LIMIT || !fittest.isFeasible());
+
+            islands.stop();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (islands.getGlobalBest().hasFailed()) {
+            System.out.println("\nRun stopped: an island failed after " + islands.getGenerations() + " generations");
+            return null;
+        }
+
+        duration = -duration + System.nanoTime();
+
+        // Print summary of genetic algorithm
+        System.out.println("\nFittest \t | Fit: " + df.format(fittest.getCost()) + " | " + fittest.toString());
+        System.out.println("\nExecution Time: \t" + duration * Math.pow(10, -9) + " seconds");
+        System.out.println("Generations: \t\t" + islands.getGenerations() + " across all islands");
+        System.out.println("Speed of GA: \t\t" + islands.getGenerations() / (duration * Math.pow(10, -9)) + " generations / second");
+
+        return fittest;
+    }
+
+    // Records or verifies fingerprint of current generation
+    private static void logGeneration(RunLog runLog, Population currentGen) {
+        if (Constants.RUN_MODE == RunMode.REPLAY) {
+            runLog.verify(generation, currentGen.fingerprint());
+        } else if (Constants.RUN_MODE == RunMode.RECORD) {
+            runLog.record(generation, currentGen.fingerprint());
+        }
+    }
+}
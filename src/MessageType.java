@@ -0,0 +1,26 @@
+import java.io.DataInput;
+import java.io.IOException;
+
+enum MessageType {
+    MIGRANTS, BEST, STOP;
+
+    // Reads type written as its ordinal; Unknown types are reported as IOException so the connection is dropped
+    static MessageType read(DataInput in) throws IOException {
+        int ordinal = in.readByte();
+
+        if (ordinal < 0 || ordinal >= values().length)
+            throw new IOException("Unknown message type " + ordinal);
+
+        return values()[ordinal];
+    }
+
+    // Reads number of individuals in message; Counts outside [0, POPULATION_SIZE] are reported as IOException
+    static int readCount(DataInput in) throws IOException {
+        int count = in.readShort();
+
+        if (count < 0 || count > Constants.POPULATION_SIZE)
+            throw new IOException("Invalid individual count " + count);
+
+        return count;
+    }
+}
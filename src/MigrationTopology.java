@@ -0,0 +1,3 @@
+enum MigrationTopology {
+    RING, FULLY_CONNECTED, RANDOM
+}
@@ -1,3 +1,3 @@
 enum MutationOperator {
-    ADD, DELETE, CHANGE, SHORTEN/*, CORRECT*/
+    ADD, DELETE, CHANGE, SHORTEN, REPAIR/*, CORRECT*/
 }
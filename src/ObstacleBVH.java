@@ -0,0 +1,279 @@
+import java.awt.Polygon;
+
+public class ObstacleBVH implements EdgeIndex {
+
+    private static final int LEAF_SIZE = 2;     // Maximum obstacles per leaf node
+
+    private final EdgeBuffer edges;
+    private final double[] obstacleBounds;      // minX, minY, maxX, maxY of each obstacle
+    private final int[] order;                  // Obstacle indices grouped by leaf
+    private final double[] nodeBounds;          // minX, minY, maxX, maxY of each node
+    private final int[] nodeLeft;               // Left child of inner node; -1 for leaves
+    private final int[] nodeRight;              // Right child of inner node
+    private final int[] nodeStart;              // First position in order[] covered by node
+    private final int[] nodeEnd;                // Position in order[] after the last one covered by node
+    private int nodeCount = 0;
+
+    // ObstacleBVH Constructor; Builds hierarchy once over obstacle bounding boxes
+    ObstacleBVH(Obstacle[] obstacles, EdgeBuffer edges) {
+        this.edges = edges;
+        obstacleBounds = new double[4 * obstacles.length];
+        order = new int[obstacles.length];
+
+        for (int i = 0; i < obstacles.length; i++) {
+            Polygon polygon = obstacles[i].getPolygon();
+            obstacleBounds[4 * i] = Double.POSITIVE_INFINITY;
+            obstacleBounds[4 * i + 1] = Double.POSITIVE_INFINITY;
+            obstacleBounds[4 * i + 2] = Double.NEGATIVE_INFINITY;
+            obstacleBounds[4 * i + 3] = Double.NEGATIVE_INFINITY;
+
+            for (int j = 0; j < polygon.npoints; j++) {
+                obstacleBounds[4 * i] = Math.min(obstacleBounds[4 * i], polygon.xpoints[j]);
+                obstacleBounds[4 * i + 1] = Math.min(obstacleBounds[4 * i + 1], polygon.ypoints[j]);
+                obstacleBounds[4 * i + 2] = Math.max(obstacleBounds[4 * i + 2], polygon.xpoints[j]);
+                obstacleBounds[4 * i + 3] = Math.max(obstacleBounds[4 * i + 3], polygon.ypoints[j]);
+            }
+
+            order[i] = i;
+        }
+
+        // A binary tree over n leaves has fewer than 2n nodes
+        int maxNodes = Math.max(1, 2 * obstacles.length);
+        nodeBounds = new double[4 * maxNodes];
+        nodeLeft = new int[maxNodes];
+        nodeRight = new int[maxNodes];
+        nodeStart = new int[maxNodes];
+        nodeEnd = new int[maxNodes];
+
+        build(0, obstacles.length);
+    }
+
+    /* Important Functions */
+
+    // Recursively splits obstacles at the median centroid of the longest axis; Returns index of node
+    private int build(int start, int end) {
+        int node = nodeCount++;
+        nodeStart[node] = start;
+        nodeEnd[node] = end;
+        nodeLeft[node] = -1;
+        nodeBounds[4 * node] = Double.POSITIVE_INFINITY;
+        nodeBounds[4 * node + 1] = Double.POSITIVE_INFINITY;
+        nodeBounds[4 * node + 2] = Double.NEGATIVE_INFINITY;
+        nodeBounds[4 * node + 3] = Double.NEGATIVE_INFINITY;
+
+        for (int i = start; i < end; i++) {
+            for (int k = 0; k < 2; k++) {
+                nodeBounds[4 * node + k] = Math.min(nodeBounds[4 * node + k], obstacleBounds[4 * order[i] + k]);
+                nodeBounds[4 * node + k + 2] = Math.max(nodeBounds[4 * node + k + 2], obstacleBounds[4 * order[i] + k + 2]);
+            }
+        }
+
+        if (end - start > LEAF_SIZE) {
+            int axis = (nodeBounds[4 * node + 2] - nodeBounds[4 * node] >= nodeBounds[4 * node + 3] - nodeBounds[4 * node + 1]) ? 0 : 1;
+            int mid = (start + end) / 2;
+
+            selectByCentroid(start, end - 1, mid, axis);
+            nodeLeft[node] = build(start, mid);
+            nodeRight[node] = build(mid, end);
+        }
+
+        return node;
+    }
+
+    // Partially orders obstacles so position k holds the median centroid along axis (Quickselect)
+    private void selectByCentroid(int low, int high, int k, int axis) {
+        while (low < high) {
+            double pivot = centroid(order[(low + high) >>> 1], axis);
+            int i = low;
+            int j = high;
+
+            while (i <= j) {
+                while (centroid(order[i], axis) < pivot)
+                    i++;
+                while (centroid(order[j], axis) > pivot)
+                    j--;
+
+                if (i <= j) {
+                    int temp = order[i];
+                    order[i] = order[j];
+                    order[j] = temp;
+                    i++;
+                    j--;
+                }
+            }
+
+            if (k <= j)
+                high = j;
+            else if (k >= i)
+                low = i;
+            else
+                return;
+        }
+    }
+
+    private double centroid(int obstacle, int axis) {
+        return obstacleBounds[4 * obstacle + axis] + obstacleBounds[4 * obstacle + axis + 2];
+    }
+
+    // Determines whether segment hits any obstacle
+    public boolean intersects(double x1, double y1, double x2, double y2) {
+        return nodeCount > 0 && intersects(0, Math.min(x1, x2), Math.min(y1, y2), Math.max(x1, x2), Math.max(y1, y2), x1, y1, x2, y2);
+    }
+
+    private boolean intersects(int node, double minX, double minY, double maxX, double maxY,
+                               double x1, double y1, double x2, double y2) {
+        if (!overlaps(nodeBounds, node, minX, minY, maxX, maxY))
+            return false;
+
+        if (nodeLeft[node] == -1) {
+            for (int i = nodeStart[node]; i < nodeEnd[node]; i++) {
+                if (overlaps(obstacleBounds, order[i], minX, minY, maxX, maxY)
+                        && edges.intersectsObstacle(order[i], x1, y1, x2, y2))
+                    return true;
+            }
+
+            return false;
+        }
+
+        return intersects(nodeLeft[node], minX, minY, maxX, maxY, x1, y1, x2, y2)
+                || intersects(nodeRight[node], minX, minY, maxX, maxY, x1, y1, x2, y2);
+    }
+
+    // Marks boundaries of every obstacle whose bounding box overlaps the segment's bounding box
+    public void markCandidates(double x1, double y1, double x2, double y2, long[] mask) {
+        for (int i = 0; i < mask.length; i++)
+            mask[i] = 0;
+
+        if (nodeCount > 0)
+            markCandidates(0, Math.min(x1, x2), Math.min(y1, y2), Math.max(x1, x2), Math.max(y1, y2), mask);
+    }
+
+    private void markCandidates(int node, double minX, double minY, double maxX, double maxY, long[] mask) {
+        if (!overlaps(nodeBounds, node, minX, minY, maxX, maxY))
+            return;
+
+        if (nodeLeft[node] == -1) {
+            for (int i = nodeStart[node]; i < nodeEnd[node]; i++) {
+                if (overlaps(obstacleBounds, order[i], minX, minY, maxX, maxY)) {
+                    for (int e = edges.getFirstEdge(order[i]); e < edges.getEndEdge(order[i]); e++)
+                        mask[e >>> 6] |= 1L << e;
+                }
+            }
+        } else {
+            markCandidates(nodeLeft[node], minX, minY, maxX, maxY, mask);
+            markCandidates(nodeRight[node], minX, minY, maxX, maxY, mask);
+        }
+    }
+
+    // Sets bit of every obstacle hit by segment in obstacle mask; Returns number of obstacles hit
+    public int allHits(double x1, double y1, double x2, double y2, long[] obstacleMask) {
+        for (int i = 0; i < obstacleMask.length; i++)
+            obstacleMask[i] = 0;
+
+        if (nodeCount == 0)
+            return 0;
+
+        return allHits(0, Math.min(x1, x2), Math.min(y1, y2), Math.max(x1, x2), Math.max(y1, y2), x1, y1, x2, y2, obstacleMask);
+    }
+
+    private int allHits(int node, double minX, double minY, double maxX, double maxY,
+                        double x1, double y1, double x2, double y2, long[] obstacleMask) {
+        if (!overlaps(nodeBounds, node, minX, minY, maxX, maxY))
+            return 0;
+
+        if (nodeLeft[node] != -1) {
+            return allHits(nodeLeft[node], minX, minY, maxX, maxY, x1, y1, x2, y2, obstacleMask)
+                    + allHits(nodeRight[node], minX, minY, maxX, maxY, x1, y1, x2, y2, obstacleMask);
+        }
+
+        int hits = 0;
+
+        for (int i = nodeStart[node]; i < nodeEnd[node]; i++) {
+            if (overlaps(obstacleBounds, order[i], minX, minY, maxX, maxY)
+                    && edges.intersectsObstacle(order[i], x1, y1, x2, y2)) {
+                obstacleMask[order[i] >>> 6] |= 1L << order[i];
+                hits++;
+            }
+        }
+
+        return hits;
+    }
+
+    // Finds obstacle hit closest to the start of segment; Returns -1 if segment hits nothing
+    public int firstHit(double x1, double y1, double x2, double y2) {
+        double[] nearest = {Double.POSITIVE_INFINITY};
+        int[] obstacle = {-1};
+
+        if (nodeCount > 0)
+            firstHit(0, Math.min(x1, x2), Math.min(y1, y2), Math.max(x1, x2), Math.max(y1, y2), x1, y1, x2, y2, nearest, obstacle);
+
+        return obstacle[0];
+    }
+
+    private void firstHit(int node, double minX, double minY, double maxX, double maxY,
+                          double x1, double y1, double x2, double y2, double[] nearest, int[] obstacle) {
+        if (!overlaps(nodeBounds, node, minX, minY, maxX, maxY))
+            return;
+
+        if (nodeLeft[node] != -1) {
+            firstHit(nodeLeft[node], minX, minY, maxX, maxY, x1, y1, x2, y2, nearest, obstacle);
+            firstHit(nodeRight[node], minX, minY, maxX, maxY, x1, y1, x2, y2, nearest, obstacle);
+            return;
+        }
+
+        for (int i = nodeStart[node]; i < nodeEnd[node]; i++) {
+            if (!overlaps(obstacleBounds, order[i], minX, minY, maxX, maxY))
+                continue;
+
+            for (int e = edges.getFirstEdge(order[i]); e < edges.getEndEdge(order[i]); e++) {
+                if (edges.intersectsEdge(e, x1, y1, x2, y2)) {
+                    double t = hitParameter(e, x1, y1, x2, y2);
+
+                    if (t < nearest[0] || (t == nearest[0] && order[i] < obstacle[0])) {
+                        nearest[0] = t;
+                        obstacle[0] = order[i];
+                    }
+                }
+            }
+        }
+    }
+
+    // Fraction of segment travelled before it meets boundary
+    private double hitParameter(int edge, double x1, double y1, double x2, double y2) {
+        double dx = x2 - x1;
+        double dy = y2 - y1;
+        double ex = edges.getX2(edge) - edges.getX1(edge);
+        double ey = edges.getY2(edge) - edges.getY1(edge);
+        double denominator = dx * ey - dy * ex;
+
+        if (denominator != 0)
+            return Math.max(0, Math.min(1, ((edges.getX1(edge) - x1) * ey - (edges.getY1(edge) - y1) * ex) / denominator));
+
+        // Collinear overlap; Segment meets boundary at its nearest endpoint
+        double lengthSq = dx * dx + dy * dy;
+
+        if (lengthSq == 0)
+            return 0;
+
+        double t1 = ((edges.getX1(edge) - x1) * dx + (edges.getY1(edge) - y1) * dy) / lengthSq;
+        double t2 = ((edges.getX2(edge) - x1) * dx + (edges.getY2(edge) - y1) * dy) / lengthSq;
+
+        return Math.max(0, Math.min(1, Math.min(t1, t2)));
+    }
+
+    // Determines whether bounding box of entry overlaps query box
+    private static boolean overlaps(double[] bounds, int i, double minX, double minY, double maxX, double maxY) {
+        return bounds[4 * i] <= maxX && bounds[4 * i + 2] >= minX && bounds[4 * i + 1] <= maxY && bounds[4 * i + 3] >= minY;
+    }
+
+    /* Getters */
+
+    public EdgeBuffer getEdges() {
+        return edges;
+    }
+
+    // Number of words needed for an obstacle mask
+    public int getObstacleMaskLength() {
+        return (edges.getObstacleCount() + 63) / 64;
+    }
+}
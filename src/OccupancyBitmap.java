@@ -0,0 +1,124 @@
+public class OccupancyBitmap implements EdgeIndex {
+
+    private final EdgeIndex index;      // Exact index consulted for segments that may collide
+    private final double cellSize;
+    private final double inverseCellSize;
+    private final int columns;
+    private final int rows;
+    private final int rowWords;         // Words per row; Cell (r, c) is bit c % 64 of cells[r * rowWords + c / 64]
+    private final long[] cells;         // Set where an obstacle boundary passes through the cell
+
+    // OccupancyBitmap Constructor; Rasterizes every obstacle boundary with the same walk used for queries
+    OccupancyBitmap(EdgeBuffer edges, EdgeIndex index, double cellSize) {
+        this.index = index;
+        this.cellSize = cellSize;
+        inverseCellSize = 1 / cellSize;
+        columns = Math.max(1, (int) Math.ceil(Constants.MAX_X_VALUE / cellSize));
+        rows = Math.max(1, (int) Math.ceil(Constants.MAX_Y_VALUE / cellSize));
+        rowWords = (columns + 63) / 64;
+        cells = new long[rows * rowWords];
+
+        for (int e = 0; e < edges.getEdgeCount(); e++)
+            walk(edges.getX1(e), edges.getY1(e), edges.getX2(e), edges.getY2(e), true);
+    }
+
+    /* Important Functions */
+
+    public boolean intersects(double x1, double y1, double x2, double y2) {
+        return !isFree(x1, y1, x2, y2) && index.intersects(x1, y1, x2, y2);
+    }
+
+    public void markCandidates(double x1, double y1, double x2, double y2, long[] mask) {
+        if (isFree(x1, y1, x2, y2)) {
+            for (int i = 0; i < mask.length; i++)
+                mask[i] = 0;
+        } else {
+            index.markCandidates(x1, y1, x2, y2, mask);
+        }
+    }
+
+    // Determines whether segment definitely misses every boundary; False only means it possibly collides
+    public boolean isFree(double x1, double y1, double x2, double y2) {
+        return !walk(x1, y1, x2, y2, false);
+    }
+
+    // Walks the cells crossed by segment row by row as EdgeGrid does, covering each row's span of columns with
+    // word masks; Sets the cells if mark is true, otherwise returns on the first occupied cell
+    private boolean walk(double x1, double y1, double x2, double y2, boolean mark) {
+        double pad = Constants.FLOAT_THRESHOLD;
+        double minX = Math.min(x1, x2);
+        double maxX = Math.max(x1, x2);
+        double minY = Math.min(y1, y2);
+        double maxY = Math.max(y1, y2);
+        double slope = (y1 != y2) ? (x2 - x1) / (y2 - y1) : 0;
+        int lastRow = row(maxY + pad);
+
+        for (int r = row(minY - pad); r <= lastRow; r++) {
+            // Portion of segment inside this row; Border rows extend past the field
+            double bandLow = (r == 0) ? minY : Math.max(minY, r * cellSize);
+            double bandHigh = (r == rows - 1) ? maxY : Math.min(maxY, (r + 1) * cellSize);
+            double spanLow = minX;
+            double spanHigh = maxX;
+
+            if (y1 != y2) {
+                double xLow = x1 + (bandLow - y1) * slope;
+                double xHigh = x1 + (bandHigh - y1) * slope;
+                spanLow = Math.max(minX, Math.min(xLow, xHigh));
+                spanHigh = Math.min(maxX, Math.max(xLow, xHigh));
+            }
+
+            int firstColumn = column(spanLow - pad);
+            int lastColumn = column(spanHigh + pad);
+            int lastWord = r * rowWords + (lastColumn >>> 6);
+
+            for (int w = r * rowWords + (firstColumn >>> 6); w <= lastWord; w++) {
+                long span = -1L;
+
+                if (w == r * rowWords + (firstColumn >>> 6))
+                    span &= -1L << firstColumn;
+                if (w == lastWord)
+                    span &= -1L >>> (63 - (lastColumn & 63));
+
+                if (mark)
+                    cells[w] |= span;
+                else if ((cells[w] & span) != 0)
+                    return true;
+            }
+        }
+
+        return false;
+    }
+
+    // Column of x-coordinate; Coordinates outside the field fall into border cells, so truncation serves as floor
+    private int column(double x) {
+        return Math.min(columns - 1, Math.max(0, (int) (x * inverseCellSize)));
+    }
+
+    // Row of y-coordinate; Coordinates outside the field fall into border cells, so truncation serves as floor
+    private int row(double y) {
+        return Math.min(rows - 1, Math.max(0, (int) (y * inverseCellSize)));
+    }
+
+    /* Getters */
+
+    // Determines whether an obstacle boundary passes through specified cell
+    public boolean isOccupied(int row, int column) {
+        return (cells[row * rowWords + (column >>> 6)] & (1L << column)) != 0;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public EdgeIndex getIndex() {
+        return index;
+    }
+
+    public double getCellSize() {
+        return cellSize;
+    }
+}
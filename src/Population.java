@@ -1,165 +1,253 @@
-
-import java.text.DecimalFormat;
-
-public class Population {
-
-    private Individual[] population;
-
-    // Population Constructor
-    Population(boolean initialize, int populationSize) {
-        population = new Individual[populationSize];
-
-        // Initializes population with randomly generated individuals
-        if (initialize) {
-            for (int i = 0; i < populationSize; i++) {
-                population[i] = new Individual(true, (int) (Math.random() * (Constants.MAX_CHROMOSOME_LENGTH -
-                        Constants.MIN_CHROMOSOME_LENGTH + 1) + Constants.MIN_CHROMOSOME_LENGTH));
-            }
-
-            quickSort();
-        }
-    }
-
-    /* Important Functions */
-
-    // Quick Sorts population by fitness
-    public void quickSort() {
-        quickSort(0, population.length - 1);
-    }
-
-    // Recursive function for Quick Sort
-    private void quickSort(int low, int high) {
-        if (low < high) {
-            int pi = partition(low, high);
-
-            quickSort(low, pi - 1);
-            quickSort(pi + 1, high);
-        }
-    }
-
-    // Partitions population
-    private int partition(int low, int high) {
-        double pivot = population[high - 1].getCost();
-        int i = low - 1;
-
-        for (int j = low; j < high; j++) {
-            if (population[j].getCost() < pivot) {
-                i++;
-
-                Individual temp = population[i];
-                population[i] = population[j];
-                population[j] = temp;
-            }
-        }
-
-        Individual temp = population[i + 1];
-        population[i + 1] = population[high];
-        population[high] = temp;
-
-        return i + 1;
-    }
-
-    // Calculates total cost / fitness
-    public double totalCost() {
-        double totalCost = 0;
-
-        for (Individual indiv : population)
-            totalCost += indiv.getCost();
-
-        return totalCost;
-    }
-
-    // Calculates average cost / fitness
-    public double avgCost() {
-        return totalCost() / population.length;
-    }
-
-    // Calculates average chromosome length of population
-    public double avgLength() {
-        double chromosomeSum = 0;
-
-        for (Individual indiv : population)
-            chromosomeSum += indiv.getLength();
-
-        return chromosomeSum / population.length;
-    }
-
-    // Calculates population diversity (Standard Deviation of fitnesses)
-    public double diversity() {
-        double averageCost = avgCost();
-        double squareDeviationSum = 0;
-
-        for (Individual indiv : population)
-            squareDeviationSum += Math.pow(indiv.getCost() - averageCost, 2);
-
-        return Math.sqrt(squareDeviationSum / population.length);
-    }
-
-    public void saveIndividual(int index, Individual indiv) {
-        population[index] = indiv;
-    }
-
-    public String toString() {
-        DecimalFormat df = new DecimalFormat("0000.000");
-        String stringPopulation = "";
-
-        for (int i = 0; i < population.length; i++)
-            stringPopulation += "Individual " + (i + 1) + "\t | Fit: " + df.format(population[i].getCost())
-                    + " | " + population[i].toString() + "\n";
-
-        return stringPopulation;
-    }
-
-    // Prints statistics of population
-    public void printStatistics() {
-        DecimalFormat df = new DecimalFormat("0000.000");
-
-        System.out.println("\nPopulation\n" + toString());
-        System.out.println("Fittest \t | Fit: " + df.format(getFittest().getCost()) + " | " + getFittest().toString());
-        System.out.println("Least Fit \t | Fit: " + df.format(getWorst().getCost()) + " | " + getWorst().toString());
-        System.out.println("Median Fit \t | Fit: " + df.format(getMedian().getCost()) + " | " + getMedian().toString());
-        System.out.println("\nAverage Cost: \t" + df.format(avgCost()));
-        System.out.println("Diversity: \t" + df.format(diversity()));
-    }
-
-    /* Getters */
-
-    public Individual[] getPopulation() {
-        return population;
-    }
-
-    public int getSize() {
-        return population.length;
-    }
-
-    public Individual getIndividual(int index) {
-        return population[index];
-    }
-
-    public Individual getFittest() {
-        int index = 0;
-
-        for (int i = 1; i < population.length; i++) {
-            if (population[index].getCost() > population[i].getCost())
-                index = i;
-        }
-
-        return population[index];
-    }
-
-    public Individual getMedian() {
-        quickSort();
-        return population[(population.length - 1) / 2];
-    }
-
-    public Individual getWorst() {
-        int index = 0;
-
-        for (int i = 1; i < population.length; i++) {
-            if (population[index].getCost() < population[i].getCost())
-                index = i;
-        }
-
-        return population[index];
-    }
-}
+
+import java.text.DecimalFormat;
+import java.util.SplittableRandom;
+
+public class Population {
+
+    private ChromosomeStore store;      // Chromosomes and costs of all individuals, one slot each
+    private Individual[] population;    // Individual bound to each slot
+    private int[] order;                // Slot of the individual at each position
+    private double[] keys;              // Cost of the individual at each position while sorting
+    private int[] medianOrder;          // Scratch copy of order for median selection
+    private PopulationStatistics statistics = new PopulationStatistics();
+    private CumulativeTable samplingTable;  // Prefix sums used by fitness-proportionate selection
+    private int[] picks;                // Slots picked as survivors by the latest selection
+    private ReliabilityEstimator estimator; // Combined Selection state of the run; Handed on to each next generation
+
+    // Population Constructor; Individuals start empty until overwritten or randomized
+    Population(int populationSize) {
+        store = new ChromosomeStore(populationSize, Constants.MAX_CHROMOSOME_LENGTH);
+        population = new Individual[populationSize];
+        order = new int[populationSize];
+        keys = new double[populationSize];
+        medianOrder = new int[populationSize];
+        samplingTable = new CumulativeTable(populationSize);
+        picks = new int[populationSize / 2];
+
+        for (int i = 0; i < populationSize; i++) {
+            population[i] = new Individual(store, i);
+            order[i] = i;
+        }
+    }
+
+    /* Important Functions */
+
+    // Overwrites every individual in place with a randomly generated one
+    public void randomize(SplittableRandom random) {
+        for (int i = 0; i < population.length; i++) {
+            population[i].randomize((int) (random.nextDouble() * (Constants.MAX_CHROMOSOME_LENGTH -
+                    Constants.MIN_CHROMOSOME_LENGTH + 1) + Constants.MIN_CHROMOSOME_LENGTH), random);
+        }
+
+        evaluate();
+        sort();
+    }
+
+    // Sorts population by fitness; Only the order of slots is rearranged
+    public void sort() {
+        loadKeys();
+        CostSort.sort(keys, order, order.length);
+    }
+
+    // Moves the k fittest individuals to the front in order of fitness; The rest are left unordered
+    public void selectFittest(int k) {
+        if (k <= 0)
+            return;
+
+        loadKeys();
+        CostSort.select(keys, order, 0, order.length - 1, k - 1);
+        CostSort.sort(keys, order, k);
+    }
+
+    // Copies cost of the individual at each position into the sort keys
+    private void loadKeys() {
+        for (int i = 0; i < order.length; i++)
+            keys[i] = getCost(i);
+    }
+
+    // Evaluates every individual whose chromosome changed since its last evaluation; Spread over the evaluation pool
+    public void evaluate() {
+        if (Constants.EVALUATION_POOL == null) {
+            for (Individual indiv : population)
+                indiv.evaluate();
+        } else {
+            Constants.EVALUATION_POOL.invoke(new EvaluationTask(population, 0, population.length));
+        }
+    }
+
+    // Calculates total cost / fitness
+    public double totalCost() {
+        double totalCost = 0;
+
+        for (int i = 0; i < population.length; i++)
+            totalCost += getCost(i);
+
+        return totalCost;
+    }
+
+    // Calculates average cost / fitness
+    public double avgCost() {
+        return totalCost() / population.length;
+    }
+
+    // Calculates average chromosome length of population
+    public double avgLength() {
+        double chromosomeSum = 0;
+
+        for (int i = 0; i < population.length; i++)
+            chromosomeSum += getIndividual(i).getLength();
+
+        return chromosomeSum / population.length;
+    }
+
+    // Calculates population diversity (Standard Deviation of fitnesses)
+    public double diversity() {
+        double averageCost = avgCost();
+        double squareDeviationSum = 0;
+
+        for (int i = 0; i < population.length; i++)
+            squareDeviationSum += Math.pow(getCost(i) - averageCost, 2);
+
+        return Math.sqrt(squareDeviationSum / population.length);
+    }
+
+    // Hashes every chromosome and cost in population order; Equal populations give equal fingerprints
+    public long fingerprint() {
+        long hash = population.length;
+
+        for (int i = 0; i < population.length; i++) {
+            Individual indiv = getIndividual(i);
+            hash = 31 * hash + indiv.getLength();
+            hash = 31 * hash + Double.doubleToLongBits(getCost(i));
+
+            for (int j = 0; j < indiv.getLength(); j++) {
+                hash = 31 * hash + Double.doubleToLongBits(indiv.getX(j));
+                hash = 31 * hash + Double.doubleToLongBits(indiv.getY(j));
+            }
+        }
+
+        return hash;
+    }
+
+    // Computes cost and length statistics in a single pass; The returned snapshot is reused by the next call
+    public PopulationStatistics getStatistics() {
+        statistics.reset();
+
+        for (int i = 0; i < population.length; i++)
+            statistics.add(getCost(i), getIndividual(i).getLength());
+
+        return statistics;
+    }
+
+    // Copies individual into the slot at specified position
+    public void saveIndividual(int index, Individual indiv) {
+        getIndividual(index).copyFrom(indiv);
+    }
+
+    public String toString() {
+        DecimalFormat df = new DecimalFormat("0000.000");
+        String stringPopulation = "";
+
+        for (int i = 0; i < population.length; i++)
+            stringPopulation += "Individual " + (i + 1) + "\t | Fit: " + df.format(getCost(i))
+                    + " | " + getIndividual(i).toString() + "\n";
+
+        return stringPopulation;
+    }
+
+    // Prints statistics of population
+    public void printStatistics() {
+        DecimalFormat df = new DecimalFormat("0000.000");
+
+        System.out.println("\nPopulation\n" + toString());
+        System.out.println("Fittest \t | Fit: " + df.format(getFittest().getCost()) + " | " + getFittest().toString());
+        System.out.println("Least Fit \t | Fit: " + df.format(getWorst().getCost()) + " | " + getWorst().toString());
+        System.out.println("Median Fit \t | Fit: " + df.format(getMedian().getCost()) + " | " + getMedian().toString());
+        System.out.println("\nAverage Cost: \t" + df.format(avgCost()));
+        System.out.println("Diversity: \t" + df.format(diversity()));
+    }
+
+    /* Setters */
+
+    public void setEstimator(ReliabilityEstimator estimator) {
+        this.estimator = estimator;
+    }
+
+    /* Getters */
+
+    // Individuals in population order
+    public Individual[] getPopulation() {
+        Individual[] ordered = new Individual[population.length];
+
+        for (int i = 0; i < population.length; i++)
+            ordered[i] = getIndividual(i);
+
+        return ordered;
+    }
+
+    public int getSize() {
+        return population.length;
+    }
+
+    public Individual getIndividual(int index) {
+        return population[order[index]];
+    }
+
+    public int getSlot(int index) {
+        return order[index];
+    }
+
+    public Individual getIndividualInSlot(int slot) {
+        return population[slot];
+    }
+
+    public double getCost(int index) {
+        return population[order[index]].getCost();
+    }
+
+    public CumulativeTable getSamplingTable() {
+        return samplingTable;
+    }
+
+    public int[] getPicks() {
+        return picks;
+    }
+
+    public ReliabilityEstimator getEstimator() {
+        return estimator;
+    }
+
+    public ChromosomeStore getStore() {
+        return store;
+    }
+
+    public Individual getFittest() {
+        int index = 0;
+
+        for (int i = 1; i < population.length; i++) {
+            if (getCost(index) > getCost(i))
+                index = i;
+        }
+
+        return getIndividual(index);
+    }
+
+    // Median by quickselect on a copy of the order; Population order is left untouched
+    public Individual getMedian() {
+        loadKeys();
+        System.arraycopy(order, 0, medianOrder, 0, order.length);
+        CostSort.select(keys, medianOrder, 0, order.length - 1, (order.length - 1) / 2);
+        return population[medianOrder[(order.length - 1) / 2]];
+    }
+
+    public Individual getWorst() {
+        int index = 0;
+
+        for (int i = 1; i < population.length; i++) {
+            if (getCost(index) < getCost(i))
+                index = i;
+        }
+
+        return getIndividual(index);
+    }
+}
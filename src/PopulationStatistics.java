@@ -0,0 +1,148 @@
+import java.util.Arrays;
+
+public class PopulationStatistics {
+
+    private int count;
+    private double min;
+    private double max;
+    private double mean;            // Running mean of costs (Welford)
+    private double squareSum;       // Running sum of squared deviations from the mean (Welford)
+    private double lengthSum;
+
+    // P-Square estimate of the median: marker heights, actual and desired marker positions
+    private final double[] markers = new double[5];
+    private final int[] positions = new int[5];
+    private final double[] desired = new double[5];
+    private static final double[] INCREMENTS = {0, 0.25, 0.5, 0.75, 1};
+
+    // PopulationStatistics Constructor
+    PopulationStatistics() {
+        reset();
+    }
+
+    /* Important Functions */
+
+    // Clears every statistic before a new pass
+    public void reset() {
+        count = 0;
+        min = Double.POSITIVE_INFINITY;
+        max = Double.NEGATIVE_INFINITY;
+        mean = 0;
+        squareSum = 0;
+        lengthSum = 0;
+    }
+
+    // Adds one individual's cost and chromosome length; O(1)
+    public void add(double cost, int length) {
+        count++;
+        min = Math.min(min, cost);
+        max = Math.max(max, cost);
+        lengthSum += length;
+
+        double delta = cost - mean;
+        mean += delta / count;
+        squareSum += delta * (cost - mean);
+
+        addToMedian(cost);
+    }
+
+    // Updates P-Square markers; The first 5 costs are kept and sorted to seed the markers
+    private void addToMedian(double cost) {
+        if (count <= 5) {
+            markers[count - 1] = cost;
+            Arrays.sort(markers, 0, count);
+
+            if (count == 5) {
+                for (int i = 0; i < 5; i++) {
+                    positions[i] = i;
+                    desired[i] = 4 * INCREMENTS[i];
+                }
+            }
+            return;
+        }
+
+        // Finds cell containing cost and widens the outer markers if needed
+        int cell;
+        if (cost < markers[0]) {
+            markers[0] = cost;
+            cell = 0;
+        } else if (cost >= markers[4]) {
+            markers[4] = cost;
+            cell = 3;
+        } else {
+            cell = 0;
+            while (cost >= markers[cell + 1])
+                cell++;
+        }
+
+        for (int i = cell + 1; i < 5; i++)
+            positions[i]++;
+
+        for (int i = 0; i < 5; i++)
+            desired[i] += INCREMENTS[i];
+
+        // Moves each middle marker towards its desired position
+        for (int i = 1; i < 4; i++) {
+            double offset = desired[i] - positions[i];
+
+            if ((offset >= 1 && positions[i + 1] - positions[i] > 1) || (offset <= -1 && positions[i - 1] - positions[i] < -1)) {
+                int step = offset > 0 ? 1 : -1;
+                double height = parabolic(i, step);
+
+                if (markers[i - 1] < height && height < markers[i + 1])
+                    markers[i] = height;
+                else
+                    markers[i] += step * (markers[i + step] - markers[i]) / (positions[i + step] - positions[i]);
+
+                positions[i] += step;
+            }
+        }
+    }
+
+    // Piecewise-parabolic prediction of marker height after moving it by step
+    private double parabolic(int i, int step) {
+        return markers[i] + (double) step / (positions[i + 1] - positions[i - 1])
+                * ((positions[i] - positions[i - 1] + step) * (markers[i + 1] - markers[i]) / (positions[i + 1] - positions[i])
+                + (positions[i + 1] - positions[i] - step) * (markers[i] - markers[i - 1]) / (positions[i] - positions[i - 1]));
+    }
+
+    /* Getters */
+
+    public int getCount() {
+        return count;
+    }
+
+    public double getMin() {
+        return min;
+    }
+
+    public double getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    // Population variance of costs
+    public double getVariance() {
+        return count == 0 ? 0 : squareSum / count;
+    }
+
+    // Population diversity (Standard Deviation of fitnesses)
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    public double getMeanLength() {
+        return count == 0 ? 0 : lengthSum / count;
+    }
+
+    // Approximate median; Exact while fewer than 6 costs were added
+    public double getMedian() {
+        if (count <= 5)
+            return count == 0 ? 0 : markers[(count - 1) / 2];
+
+        return markers[2];
+    }
+}
@@ -0,0 +1,59 @@
+import java.util.SplittableRandom;
+
+public class ReliabilityEstimator {
+
+    private final ReliabilityTrial[] trials;    // One trial per candidate method, each with its own scratch
+    private CSMethod recommended;               // Most reliable method of the latest estimate
+    private int age;                            // Generations the recommendation has been used for
+
+    // ReliabilityEstimator Constructor
+    ReliabilityEstimator(int populationSize) {
+        CSMethod[] methods = CSMethod.values();
+        trials = new ReliabilityTrial[methods.length];
+
+        for (int i = 0; i < methods.length; i++)
+            trials[i] = new ReliabilityTrial(methods[i], populationSize);
+    }
+
+    /* Important Functions */
+
+    // Recommends most reliable selection method; Estimate is refreshed every COMBINED_SELECTION_REFRESH generations
+    public CSMethod recommend(Population population, int generation, SplittableRandom random) {
+        if (recommended == null || age >= Constants.COMBINED_SELECTION_REFRESH) {
+            estimate(population, generation, random);
+            age = 0;
+        }
+
+        age++;
+        return recommended;
+    }
+
+    // Runs every trial on the ranked population; Trials are spread over the evaluation pool
+    private void estimate(Population population, int generation, SplittableRandom random) {
+        population.sort();
+
+        // Streams are split in method order, so the estimate does not depend on scheduling
+        for (ReliabilityTrial trial : trials)
+            trial.prepare(population, generation, random.split());
+
+        if (Constants.EVALUATION_POOL == null) {
+            for (ReliabilityTrial trial : trials)
+                trial.invoke();
+        } else {
+            for (ReliabilityTrial trial : trials)
+                Constants.EVALUATION_POOL.execute(trial);
+            for (ReliabilityTrial trial : trials)
+                trial.join();
+        }
+
+        recommended = trials[0].getMethod();
+        double highestReliability = trials[0].getReliability();
+
+        for (int i = 1; i < trials.length; i++) {
+            if (highestReliability < trials[i].getReliability()) {
+                recommended = trials[i].getMethod();
+                highestReliability = trials[i].getReliability();
+            }
+        }
+    }
+}
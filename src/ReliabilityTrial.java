@@ -0,0 +1,88 @@
+import java.util.SplittableRandom;
+import java.util.concurrent.RecursiveAction;
+
+public class ReliabilityTrial extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final CSMethod method;
+    private final int[] picks;                  // Survivor slots of the current run
+    private final CumulativeTable table;        // Sampling scratch; Never shared with the population or another trial
+    private Population population;              // Sorted population the trial selects from
+    private int generation;                     // Generation of the run the population belongs to
+    private SplittableRandom random;
+    private double reliability;                 // Result of the latest estimate
+
+    // ReliabilityTrial Constructor
+    ReliabilityTrial(CSMethod method, int populationSize) {
+        this.method = method;
+        picks = new int[populationSize / 2];
+        table = new CumulativeTable(populationSize);
+    }
+
+    /* Important Functions */
+
+    // Prepares trial for another estimate on a sorted population; Generation is counted by the run, as islands and
+    // workers keep their own counts
+    public void prepare(Population population, int generation, SplittableRandom random) {
+        this.population = population;
+        this.generation = generation;
+        this.random = random;
+        reinitialize();
+    }
+
+    // Calculates reliability of selection method; Depends on mean diversity and population quality
+    protected void compute() {
+        double[] costs = population.getStore().getCosts();
+        int survivors = population.getSize() / 2;
+        double highestCost = population.getCost(0);
+        double lowestCost = population.getCost(population.getSize() - 1);
+        double meanDiversity = 0;
+
+        for (int i = 0; i < Constants.ELITE_SURVIVORS; i++)
+            picks[i] = population.getSlot(i);
+
+        // Performs multiple runs of selection; Survivors are only read through their slots, never copied
+        for (int run = 0; run < Constants.COMBINED_SELECTION_RUNS; run++) {
+            Evolution.pickSurvivors(method, population, picks, table, random);
+
+            double fittestCost = costs[picks[0]];
+            double worstCost = fittestCost;
+            double totalCost = 0;
+
+            for (int i = 0; i < survivors; i++) {
+                double cost = costs[picks[i]];
+                totalCost += cost;
+                fittestCost = Math.min(fittestCost, cost);
+                worstCost = Math.max(worstCost, cost);
+            }
+
+            // Standard deviation of survivors' costs, as Population.diversity()
+            double averageCost = totalCost / survivors;
+            double squareDeviationSum = 0;
+
+            for (int i = 0; i < survivors; i++)
+                squareDeviationSum += Math.pow(costs[picks[i]] - averageCost, 2);
+
+            if (highestCost < fittestCost)
+                highestCost = fittestCost;
+            if (lowestCost > worstCost)
+                lowestCost = worstCost;
+            meanDiversity += Math.sqrt(squareDeviationSum / survivors);
+        }
+
+        meanDiversity /= Constants.COMBINED_SELECTION_RUNS;
+        reliability = meanDiversity / generation + (generation - 1) * lowestCost
+                / Math.sqrt(Math.pow(highestCost, 2) + Math.pow(lowestCost, 2)) / generation;
+    }
+
+    /* Getters */
+
+    public CSMethod getMethod() {
+        return method;
+    }
+
+    public double getReliability() {
+        return reliability;
+    }
+}
@@ -0,0 +1,91 @@
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileWriter;
+import java.io.IOException;
+
+import java.util.Arrays;
+import java.util.Scanner;
+
+public class RunLog {
+
+    private final long seed;            // Root seed the run was started with
+    private long[] fingerprints;        // Population fingerprint of generation g at index g - 1
+    private int generations;            // Number of recorded generations
+    private int divergentGeneration;    // First generation that differed from the recording; -1 if none
+
+    // RunLog Constructor; Starts an empty recording
+    RunLog(long seed) {
+        this.seed = seed;
+        fingerprints = new long[Constants.GENERATION_LIMIT];
+        divergentGeneration = -1;
+    }
+
+    // Loads a recorded run: seed on the first line, then one "generation fingerprint" pair per line
+    public static RunLog load(String fileName) throws FileNotFoundException {
+        Scanner input = new Scanner(new File(fileName));
+        RunLog runLog = new RunLog(input.nextLong());
+
+        while (input.hasNextInt()) {
+            runLog.record(input.nextInt(), input.nextLong());
+        }
+
+        input.close();
+        return runLog;
+    }
+
+    /* Important Functions */
+
+    // Appends fingerprint of a generation to the recording
+    public void record(int generation, long fingerprint) {
+        if (generation > fingerprints.length)
+            fingerprints = Arrays.copyOf(fingerprints, Math.max(generation, 2 * fingerprints.length));
+
+        fingerprints[generation - 1] = fingerprint;
+        generations = Math.max(generations, generation);
+    }
+
+    // Compares a replayed generation with the recording; Flags the first generation that differs
+    public boolean verify(int generation, long fingerprint) {
+        if (divergentGeneration != -1)
+            return false;
+
+        if (generation > generations || fingerprints[generation - 1] != fingerprint) {
+            divergentGeneration = generation;
+            System.out.println("Replay diverged from recorded run at generation " + generation);
+            return false;
+        }
+
+        return true;
+    }
+
+    // Flags a replay that terminated before the recorded run did
+    public void finish(int generation) {
+        if (divergentGeneration == -1 && generation < generations) {
+            divergentGeneration = generation + 1;
+            System.out.println("Replay diverged from recorded run at generation " + divergentGeneration);
+        } else if (divergentGeneration == -1) {
+            System.out.println("Replay matched all " + generations + " recorded generations");
+        }
+    }
+
+    // Writes the recording so the run can be replayed later
+    public void save(String fileName) throws IOException {
+        FileWriter fw = new FileWriter(fileName);
+        fw.write(seed + "\n");
+
+        for (int i = 0; i < generations; i++)
+            fw.write((i + 1) + " " + fingerprints[i] + "\n");
+
+        fw.close();
+    }
+
+    /* Getters */
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getDivergentGeneration() {
+        return divergentGeneration;
+    }
+}
@@ -0,0 +1,3 @@
+enum RunMode {
+    NORMAL, RECORD, REPLAY
+}
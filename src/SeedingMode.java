@@ -0,0 +1,3 @@
+enum SeedingMode {
+    RANDOM, VISIBILITY, GRID_ASTAR
+}
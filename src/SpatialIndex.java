@@ -0,0 +1,3 @@
+enum SpatialIndex {
+    NONE, GRID, BVH
+}
@@ -0,0 +1,106 @@
+import java.util.SplittableRandom;
+
+public class SteadyStateGA {
+
+    private final Population population;
+    private final CostHeap heap;            // Keeps the least fit individual at hand for replacement
+    private final CrossoverOperator crossover;
+    private final Individual[] offspring = {new Individual(), new Individual()};
+    private int fittest;                    // Position of the fittest individual
+    private long evaluations;
+
+    // SteadyStateGA Constructor; Evolves population in place
+    SteadyStateGA(Population population, CrossoverOperator crossover) {
+        this.population = population;
+        this.crossover = crossover;
+        population.evaluate();
+        heap = new CostHeap(population);
+
+        for (int i = 1; i < population.getSize(); i++) {
+            if (population.getCost(i) < population.getCost(fittest))
+                fittest = i;
+        }
+    }
+
+    /* Important Functions */
+
+    // Breeds one pair of offspring and lets each replace the least fit individual if it is fitter
+    public void step(SplittableRandom random) {
+        Individual parent1 = population.getIndividual(select(random));
+        Individual parent2 = population.getIndividual(select(random));
+        evaluations += offspring.length;
+
+        if (random.nextDouble() <= Constants.CROSSOVER_PROBABILITY) {
+            switch (crossover) {
+                case ONE_POINT:
+                    Evolution.onePointCrossover(parent1, parent2, offspring[0], offspring[1], random);
+                    break;
+                case K_POINT:
+                    Evolution.kPointCrossover(parent1, parent2, offspring[0], offspring[1], random);
+                    break;
+                case INTELLIGENT:
+                    Evolution.intelligentCrossover(parent1, parent2, offspring[0]);
+                    Evolution.intelligentCrossover(parent2, parent1, offspring[1]);
+            }
+
+            offspring[0].mutate(random);
+            offspring[1].mutate(random);
+        } else {
+            offspring[0].copyFrom(parent1);
+            offspring[1].copyFrom(parent2);
+        }
+
+        // Same mutation stage a generation applies to non-elite individuals
+        for (Individual child : offspring) {
+            if (random.nextDouble() <= Constants.MUTATION_PROBABILITY)
+                child.mutate(random);
+        }
+
+        // Children that merely reproduce a parent are dropped so clones cannot take over the population; Parent costs
+        // are read first, as the first replacement may overwrite a parent that was the least fit individual
+        double parent1Cost = parent1.getCost();
+        double parent2Cost = parent2.getCost();
+
+        for (Individual child : offspring) {
+            if (child.getCost() != parent1Cost && child.getCost() != parent2Cost)
+                replaceWorst(child);
+        }
+    }
+
+    // Selects fittest of a random group of individuals
+    private int select(SplittableRandom random) {
+        int winner = (int) (random.nextDouble() * population.getSize());
+
+        for (int j = 1; j < Constants.TOURNAMENT_SIZE; j++) {
+            int contestant = (int) (random.nextDouble() * population.getSize());
+            if (population.getCost(winner) > population.getCost(contestant)) {
+                winner = contestant;
+            }
+        }
+
+        return winner;
+    }
+
+    // Copies child over the least fit individual if child is fitter; O(log n)
+    private void replaceWorst(Individual child) {
+        int worst = heap.getWorst();
+
+        if (child.getCost() < population.getCost(worst)) {
+            population.saveIndividual(worst, child);
+            heap.update(worst);
+
+            if (population.getCost(worst) < population.getCost(fittest))
+                fittest = worst;
+        }
+    }
+
+    /* Getters */
+
+    public Individual getFittest() {
+        return population.getIndividual(fittest);
+    }
+
+    public long getEvaluations() {
+        return evaluations;
+    }
+}
@@ -0,0 +1,92 @@
+import java.awt.geom.Line2D;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// Compiled with javac --add-modules jdk.incubator.vector; Only loaded by EdgeBuffer when the module was also added at
+// launch, otherwise the scalar kernel of EdgeBuffer is used
+public class VectorKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private final double[] x1;          // Boundaries of the EdgeBuffer; Shared, never written
+    private final double[] y1;
+    private final double[] x2;
+    private final double[] y2;
+
+    // VectorKernel Constructor
+    VectorKernel(double[] x1, double[] y1, double[] x2, double[] y2) {
+        this.x1 = x1;
+        this.y1 = y1;
+        this.x2 = x2;
+        this.y2 = y2;
+    }
+
+    /* Important Functions */
+
+    // Narrows candidates of the mask word starting at boundary first to the boundaries segment intersects; Each lane
+    // group holding a candidate gets the same orientation products as EdgeBuffer.orientations(). A lane mask of the
+    // sign tests skips groups that miss, the products of the others go to the scratch arrays and are checked as in
+    // EdgeBuffer.hitMask(), with products of zero decided by Line2D
+    public long hitMask(int first, long candidates, double x1, double y1, double x2, double y2, double[] segmentSides, double[] edgeSides) {
+        int lanes = SPECIES.length();
+        DoubleVector segmentX1 = DoubleVector.broadcast(SPECIES, x1);
+        DoubleVector segmentY1 = DoubleVector.broadcast(SPECIES, y1);
+        DoubleVector segmentX2 = DoubleVector.broadcast(SPECIES, x2);
+        DoubleVector segmentY2 = DoubleVector.broadcast(SPECIES, y2);
+        DoubleVector dx = DoubleVector.broadcast(SPECIES, x2 - x1);
+        DoubleVector dy = DoubleVector.broadcast(SPECIES, y2 - y1);
+        long flagged = 0;
+        long hits = 0;
+
+        for (int i = 0; i < 64; i += lanes) {
+            if (((candidates >>> i) & ((1L << lanes) - 1)) == 0)
+                continue;
+
+            int e = first + i;
+            DoubleVector edgeX1 = load(this.x1, e);
+            DoubleVector edgeY1 = load(this.y1, e);
+            DoubleVector edgeX2 = load(this.x2, e);
+            DoubleVector edgeY2 = load(this.y2, e);
+            DoubleVector ex = edgeX2.sub(edgeX1);
+            DoubleVector ey = edgeY2.sub(edgeY1);
+            DoubleVector ccw1 = edgeX1.sub(segmentX1).mul(dy).sub(edgeY1.sub(segmentY1).mul(dx));
+            DoubleVector ccw2 = edgeX2.sub(segmentX1).mul(dy).sub(edgeY2.sub(segmentY1).mul(dx));
+            DoubleVector ccw3 = segmentX1.sub(edgeX1).mul(ey).sub(segmentY1.sub(edgeY1).mul(ex));
+            DoubleVector ccw4 = segmentX2.sub(edgeX1).mul(ey).sub(segmentY2.sub(edgeY1).mul(ex));
+            DoubleVector segmentSide = ccw1.mul(ccw2);
+            DoubleVector edgeSide = ccw3.mul(ccw4);
+
+            // Lane group is only read back if one of its boundaries may be hit; Mask bits are not read directly, as
+            // VectorMask.toLong() is not intrinsic on JDK 17
+            if (segmentSide.compare(VectorOperators.LE, 0).and(edgeSide.compare(VectorOperators.LE, 0)).anyTrue()) {
+                segmentSide.intoArray(segmentSides, i);
+                edgeSide.intoArray(edgeSides, i);
+                flagged |= ((1L << lanes) - 1) << i;
+            }
+        }
+
+        for (long bits = candidates & flagged; bits != 0; bits &= bits - 1) {
+            int i = Long.numberOfTrailingZeros(bits);
+
+            if (segmentSides[i] < 0 && edgeSides[i] < 0
+                    || (segmentSides[i] == 0 || edgeSides[i] == 0)
+                    && Line2D.linesIntersect(x1, y1, x2, y2, this.x1[first + i], this.y1[first + i],
+                    this.x2[first + i], this.y2[first + i]))
+                hits |= 1L << i;
+        }
+
+        return hits;
+    }
+
+    // Loads lane group from boundary e; Lanes past the last boundary are zero
+    private static DoubleVector load(double[] values, int e) {
+        if (e + SPECIES.length() <= values.length)
+            return DoubleVector.fromArray(SPECIES, values, e);
+
+        VectorMask<Double> inRange = SPECIES.indexInRange(e, values.length);
+        return DoubleVector.fromArray(SPECIES, values, e, inRange);
+    }
+}
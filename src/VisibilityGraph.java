@@ -0,0 +1,301 @@
+import java.awt.Polygon;
+import java.awt.Rectangle;
+import java.awt.geom.Point2D;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+public class VisibilityGraph {
+
+    public static final int START = 0;          // Node of the start point (0, 0)
+    public static final int GOAL = 1;           // Node of Constants.GOAL_NODE
+
+    private final EdgeIndex index;              // Boundaries of the obstacles the graph was built with
+    private final ArrayList<EdgeBuffer> added = new ArrayList<EdgeBuffer>();    // Boundaries of obstacles added later
+    private final double clearance;             // Distance nodes keep from the boundaries of their vertex
+    private double[] x;
+    private double[] y;
+    private long[][] visible;                   // Bit j of visible[i] is set when nodes i and j see each other
+    private int nodeCount;
+
+    // VisibilityGraph Constructor; Index must cover exactly the specified obstacles
+    VisibilityGraph(Obstacle[] obstacles, EdgeIndex index, double clearance) {
+        this.index = index;
+        this.clearance = clearance;
+        x = new double[16];
+        y = new double[16];
+        visible = new long[16][1];
+
+        addNode(0, 0);
+        addNode(Constants.GOAL_NODE.getX(), Constants.GOAL_NODE.getY());
+
+        for (Obstacle obstacle : obstacles)
+            addVertices(obstacle.getPolygon());
+
+        // Every pair is tested once against the full index
+        for (int i = 0; i < nodeCount; i++) {
+            for (int j = i + 1; j < nodeCount; j++) {
+                if (!isBlocked(x[i], y[i], x[j], y[j]))
+                    connect(i, j);
+            }
+        }
+    }
+
+    /* Important Functions */
+
+    // Adds obstacle after construction; Only visibility edges crossing its bounding box are rechecked
+    public void addObstacle(Obstacle obstacle) {
+        Polygon polygon = obstacle.getPolygon();
+        EdgeBuffer boundaries = new EdgeBuffer(new Obstacle[] {obstacle});
+        Rectangle bounds = polygon.getBounds();
+        int oldCount = nodeCount;
+
+        // Existing edges can only lose visibility to the new boundaries
+        for (int i = 0; i < oldCount; i++) {
+            for (int j = nextVisible(i, i + 1); j >= 0; j = nextVisible(i, j + 1)) {
+                if (Math.max(x[i], x[j]) >= bounds.getMinX() && Math.min(x[i], x[j]) <= bounds.getMaxX()
+                        && Math.max(y[i], y[j]) >= bounds.getMinY() && Math.min(y[i], y[j]) <= bounds.getMaxY()
+                        && boundaries.intersects(x[i], y[i], x[j], y[j]))
+                    disconnect(i, j);
+            }
+        }
+
+        added.add(boundaries);
+        addVertices(polygon);
+
+        // New nodes are tested against every obstacle, old and new
+        for (int i = oldCount; i < nodeCount; i++) {
+            for (int j = 0; j < i; j++) {
+                if (!isBlocked(x[i], y[i], x[j], y[j]))
+                    connect(i, j);
+            }
+        }
+    }
+
+    // Determines whether segment touches or crosses any obstacle boundary known to the graph
+    public boolean isBlocked(double x1, double y1, double x2, double y2) {
+        if (index.intersects(x1, y1, x2, y2))
+            return true;
+
+        for (EdgeBuffer boundaries : added) {
+            if (boundaries.intersects(x1, y1, x2, y2))
+                return true;
+        }
+
+        return false;
+    }
+
+    // Shortest route between two nodes; Interior waypoints are appended to route. Returns its length, or infinity if
+    // target is unreachable
+    public double shortestPath(int source, int target, ArrayList<Point2D> route) {
+        if (isVisible(source, target))
+            return Point2D.distance(x[source], y[source], x[target], y[target]);
+
+        return search(x[source], y[source], visible[source], x[target], y[target], visible[target], route);
+    }
+
+    // Shortest route between two arbitrary points; Their visibility is computed on the fly
+    public double shortestPath(double x1, double y1, double x2, double y2, ArrayList<Point2D> route) {
+        if (!isBlocked(x1, y1, x2, y2))
+            return Point2D.distance(x1, y1, x2, y2);
+
+        return search(x1, y1, visibleFrom(x1, y1), x2, y2, visibleFrom(x2, y2), route);
+    }
+
+    // A* over the dense graph plus a target that sees the nodes in targetVisible; Straight-line distance to the target
+    // never overestimates, so the first route the search cannot improve on is the shortest
+    private double search(double sourceX, double sourceY, long[] sourceVisible,
+                          double targetX, double targetY, long[] targetVisible, ArrayList<Point2D> route) {
+        double[] distance = new double[nodeCount];
+        double[] estimate = new double[nodeCount];     // Distance so far plus straight-line distance to the target
+        int[] previous = new int[nodeCount];
+        boolean[] settled = new boolean[nodeCount];
+        double best = Double.POSITIVE_INFINITY;
+        int last = -1;      // Node settled before the target on the best route
+
+        Arrays.fill(distance, Double.POSITIVE_INFINITY);
+        Arrays.fill(estimate, Double.POSITIVE_INFINITY);
+
+        for (int j = nextVisible(sourceVisible, 0); j >= 0; j = nextVisible(sourceVisible, j + 1)) {
+            distance[j] = Point2D.distance(sourceX, sourceY, x[j], y[j]);
+            estimate[j] = distance[j] + Point2D.distance(x[j], y[j], targetX, targetY);
+            previous[j] = -1;
+        }
+
+        while (true) {
+            int u = -1;
+
+            // Ties go to the lowest node, so routes are deterministic
+            for (int i = 0; i < nodeCount; i++) {
+                if (!settled[i] && estimate[i] < best && (u < 0 || estimate[i] < estimate[u]))
+                    u = i;
+            }
+
+            if (u < 0)
+                break;
+
+            settled[u] = true;
+
+            if (isSet(targetVisible, u) && distance[u] + Point2D.distance(x[u], y[u], targetX, targetY) < best) {
+                best = distance[u] + Point2D.distance(x[u], y[u], targetX, targetY);
+                last = u;
+            }
+
+            for (int v = nextVisible(u, 0); v >= 0; v = nextVisible(u, v + 1)) {
+                double d = distance[u] + Point2D.distance(x[u], y[u], x[v], y[v]);
+
+                if (!settled[v] && d < distance[v]) {
+                    distance[v] = d;
+                    estimate[v] = d + Point2D.distance(x[v], y[v], targetX, targetY);
+                    previous[v] = u;
+                }
+            }
+        }
+
+        // Waypoints are collected from the target back to the source
+        int first = route.size();
+
+        for (int v = last; v >= 0; v = previous[v])
+            route.add(first, new Point2D.Double(x[v], y[v]));
+
+        return best;
+    }
+
+    // Nodes seen from an arbitrary point
+    private long[] visibleFrom(double pointX, double pointY) {
+        long[] row = new long[visible[0].length];
+
+        for (int i = 0; i < nodeCount; i++) {
+            if (!isBlocked(pointX, pointY, x[i], y[i]))
+                row[i >>> 6] |= 1L << i;
+        }
+
+        return row;
+    }
+
+    // Adds a node just outside each convex vertex of polygon; Nodes lie on the miter of the two boundaries, at
+    // clearance from both, so routes through them never touch the obstacle. Reflex vertices never lie on a shortest
+    // route and nodes off the field are left out
+    private void addVertices(Polygon polygon) {
+        int n = polygon.npoints;
+        double area = 0;
+
+        for (int i = 0; i < n; i++)
+            area += (double) polygon.xpoints[i] * polygon.ypoints[(i + 1) % n] - (double) polygon.xpoints[(i + 1) % n] * polygon.ypoints[i];
+
+        double winding = Math.signum(area);
+
+        for (int i = 0; i < n; i++) {
+            double px = polygon.xpoints[(i + n - 1) % n];
+            double py = polygon.ypoints[(i + n - 1) % n];
+            double vx = polygon.xpoints[i];
+            double vy = polygon.ypoints[i];
+            double qx = polygon.xpoints[(i + 1) % n];
+            double qy = polygon.ypoints[(i + 1) % n];
+            double inLength = Point2D.distance(px, py, vx, vy);
+            double outLength = Point2D.distance(vx, vy, qx, qy);
+
+            if (inLength == 0 || outLength == 0)
+                continue;
+
+            // Unit directions of the boundaries into and out of the vertex
+            double ix = (vx - px) / inLength;
+            double iy = (vy - py) / inLength;
+            double ox = (qx - vx) / outLength;
+            double oy = (qy - vy) / outLength;
+
+            if ((ix * oy - iy * ox) * winding <= 0)
+                continue;
+
+            // Outward normals of both boundaries; Sharp vertices are capped so the node stays near its vertex
+            double n1x = winding * iy;
+            double n1y = -winding * ix;
+            double n2x = winding * oy;
+            double n2y = -winding * ox;
+            double scale = clearance / Math.max(0.25, 1 + n1x * n2x + n1y * n2y);
+            double nodeX = vx + (n1x + n2x) * scale;
+            double nodeY = vy + (n1y + n2y) * scale;
+
+            if (nodeX >= 0 && nodeX <= Constants.MAX_X_VALUE && nodeY >= 0 && nodeY <= Constants.MAX_Y_VALUE)
+                addNode(nodeX, nodeY);
+        }
+    }
+
+    // Appends node; Coordinates and visibility rows grow together
+    private void addNode(double nodeX, double nodeY) {
+        if (nodeCount == x.length) {
+            long[][] grown = new long[2 * nodeCount][(2 * nodeCount + 63) / 64];
+
+            for (int i = 0; i < nodeCount; i++)
+                System.arraycopy(visible[i], 0, grown[i], 0, visible[i].length);
+
+            x = Arrays.copyOf(x, 2 * nodeCount);
+            y = Arrays.copyOf(y, 2 * nodeCount);
+            visible = grown;
+        }
+
+        x[nodeCount] = nodeX;
+        y[nodeCount] = nodeY;
+        nodeCount++;
+    }
+
+    private void connect(int i, int j) {
+        visible[i][j >>> 6] |= 1L << j;
+        visible[j][i >>> 6] |= 1L << i;
+    }
+
+    private void disconnect(int i, int j) {
+        visible[i][j >>> 6] &= ~(1L << j);
+        visible[j][i >>> 6] &= ~(1L << i);
+    }
+
+    // First node from specified one that node sees; Returns -1 if there is none
+    private int nextVisible(int node, int from) {
+        return nextVisible(visible[node], from);
+    }
+
+    private int nextVisible(long[] row, int from) {
+        int word = from >>> 6;
+
+        if (from >= nodeCount || word >= row.length)
+            return -1;
+
+        long bits = row[word] & (-1L << from);
+
+        while (bits == 0) {
+            if (++word == row.length)
+                return -1;
+
+            bits = row[word];
+        }
+
+        int node = word * 64 + Long.numberOfTrailingZeros(bits);
+        return (node < nodeCount) ? node : -1;
+    }
+
+    private static boolean isSet(long[] row, int node) {
+        return (row[node >>> 6] & (1L << node)) != 0;
+    }
+
+    /* Getters */
+
+    public int getNodeCount() {
+        return nodeCount;
+    }
+
+    public double getX(int node) {
+        return x[node];
+    }
+
+    public double getY(int node) {
+        return y[node];
+    }
+
+    public boolean isVisible(int i, int j) {
+        return isSet(visible[i], j);
+    }
+
+    public double getClearance() {
+        return clearance;
+    }
+}